@@ -1,9 +1,47 @@
 package exercise.gameproviderservice.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
 
 @Configuration
-@EnableRetry
+@EnableConfigurationProperties({ConflictRetryProperties.class, VirtualThreadProperties.class, SnapshotProperties.class,
+        ResponseCacheProperties.class, UpdateCoalescingProperties.class, GameLockProperties.class, ChangeFeedProperties.class,
+        NearCacheProperties.class, DurableStoreProperties.class})
 public class AppConfig {
+
+    private static final String CONFLICT_RETRY_THREAD_PREFIX = "conflict-retry-";
+    private static final String CHANGE_FEED_THREAD_PREFIX = "change-feed-";
+    private static final String NEAR_CACHE_THREAD_PREFIX = "near-cache-";
+
+    /**
+     * Scheduled pools keep platform threads in every mode: they hold on to their few workers for good, so virtual
+     * threads would save nothing there.
+     */
+    @Bean
+    public ThreadFactory conflictRetryThreadFactory() {
+        return new CustomizableThreadFactory(CONFLICT_RETRY_THREAD_PREFIX);
+    }
+
+    @Bean
+    public ThreadFactory changeFeedThreadFactory(VirtualThreadProperties virtualThreads) {
+        return threadFactory(virtualThreads, CHANGE_FEED_THREAD_PREFIX);
+    }
+
+    /**
+     * A scheduled pool, on platform threads like {@link #conflictRetryThreadFactory()}.
+     */
+    @Bean
+    public ThreadFactory nearCacheThreadFactory() {
+        return new CustomizableThreadFactory(NEAR_CACHE_THREAD_PREFIX);
+    }
+
+    private static ThreadFactory threadFactory(VirtualThreadProperties virtualThreads, String prefix) {
+        return virtualThreads.enabled()
+                ? VirtualThreads.threadFactory(prefix)
+                : new CustomizableThreadFactory(prefix);
+    }
 }
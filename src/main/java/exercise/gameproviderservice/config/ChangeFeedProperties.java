@@ -0,0 +1,14 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits of the game change feed: each subscriber may lag at most {@code bufferSize} writes behind before it is
+ * disconnected, at most {@code maxSubscribers} streams, each drained on a thread of its own, are open at once, and
+ * every stream is closed after {@code timeout} so clients reconnect periodically.
+ */
+@ConfigurationProperties(prefix = "game-provider.change-feed")
+public record ChangeFeedProperties(int bufferSize, int maxSubscribers, Duration timeout) {
+}
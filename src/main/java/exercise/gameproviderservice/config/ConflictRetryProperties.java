@@ -0,0 +1,17 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Retry policy for writes that lose an optimistic-locking race. The backoff grows from {@code initialBackoff}
+ * by {@code multiplier} up to {@code maxBackoff}, and each delay is jittered between half and all of it.
+ */
+@ConfigurationProperties(prefix = "game-provider.conflict-retry")
+public record ConflictRetryProperties(int maxAttempts,
+                                      Duration initialBackoff,
+                                      Duration maxBackoff,
+                                      double multiplier,
+                                      int schedulerThreads) {
+}
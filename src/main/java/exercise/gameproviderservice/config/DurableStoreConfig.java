@@ -0,0 +1,27 @@
+package exercise.gameproviderservice.config;
+
+import exercise.gameproviderservice.repository.DurableStore;
+import org.springframework.boot.autoconfigure.AbstractDependsOnBeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Makes every {@code DataSource} depend on the {@link DurableStore}, so that the store opens the database and points
+ * the data source properties at its file before the pool is built, and only shuts it down once the pool is closed.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DurableStoreConfig {
+
+    @Bean
+    public static DataSourceDependsOnDurableStore dataSourceDependsOnDurableStore() {
+        return new DataSourceDependsOnDurableStore();
+    }
+
+    static class DataSourceDependsOnDurableStore extends AbstractDependsOnBeanFactoryPostProcessor {
+        DataSourceDependsOnDurableStore() {
+            super(DataSource.class, "durableStore");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Opt-in file-backed H2 (MVStore) database kept in {@code directory}, instead of the in-memory one. Enabled by the
+ * {@code durable} profile. {@code cacheSize} is the page cache, {@code writeDelay} how long commits may sit in memory
+ * before reaching the file, {@code maxCompactTime} the compaction budget when the database closes and
+ * {@code autoCompactFillRate} the fill rate, in percent, below which chunks are rewritten in the background.
+ * {@code compactOnShutdown} trades a slower shutdown for a fully compacted file.
+ */
+@ConfigurationProperties(prefix = "game-provider.durable-store")
+public record DurableStoreProperties(boolean enabled, Path directory, DataSize cacheSize, Duration writeDelay,
+                                     Duration maxCompactTime, int autoCompactFillRate, boolean compactOnShutdown) {
+}
@@ -0,0 +1,12 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the Hibernate second-level cache regions holding games.
+ */
+@ConfigurationProperties(prefix = "game-provider.cache")
+public record GameCacheProperties(long maximumSize, Duration timeToLive, boolean statisticsEnabled) {
+}
@@ -0,0 +1,11 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Opt-in, in-process serialization of single-game writes for deployments with one writer node. Game names are
+ * hashed onto {@code stripes} locks.
+ */
+@ConfigurationProperties(prefix = "game-provider.game-locks")
+public record GameLockProperties(boolean enabled, int stripes) {
+}
@@ -0,0 +1,64 @@
+package exercise.gameproviderservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import exercise.gameproviderservice.domain.GameModel;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Backs the Hibernate second-level and query caches with bounded, expiring Caffeine caches.
+ * <p>
+ * The update timestamps region is never bounded nor expired: Hibernate relies on it to
+ * invalidate cached query results after {@code GameModel} writes.
+ */
+@Configuration
+@EnableConfigurationProperties(GameCacheProperties.class)
+public class HibernateCacheConfig {
+
+    @Bean
+    CacheManager hibernateCacheManager(GameCacheProperties properties) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var cacheManager = provider.getCacheManager(
+                URI.create("game-provider-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        cacheManager.createCache(GameModel.CACHE_REGION, boundedCache(properties));
+        cacheManager.createCache(GameModel.BY_NAME_CACHE_REGION, boundedCache(properties));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, boundedCache(properties));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, cache(properties));
+
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> boundedCache(GameCacheProperties properties) {
+        var configuration = cache(properties);
+        configuration.setMaximumSize(OptionalLong.of(properties.maximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.timeToLive().toNanos()));
+        return configuration;
+    }
+
+    private static CaffeineConfiguration<Object, Object> cache(GameCacheProperties properties) {
+        var configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(properties.statisticsEnabled());
+        configuration.setManagementEnabled(properties.statisticsEnabled());
+        return configuration;
+    }
+}
@@ -0,0 +1,20 @@
+package exercise.gameproviderservice.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans. Request timers ({@code http.server.requests}) and repository timers
+ * ({@code spring.data.repository.invocations}) come from Spring Boot; their histograms are switched on in
+ * {@code application.yml}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
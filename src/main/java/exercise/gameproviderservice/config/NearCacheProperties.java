@@ -0,0 +1,14 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Opt-in invalidation of this node's caches by writes of the other nodes sharing the database. The change log is
+ * polled every {@code pollInterval}, which bounds how long a node may serve a game changed elsewhere, reading at
+ * most {@code batchSize} changes per query.
+ */
+@ConfigurationProperties(prefix = "game-provider.near-cache")
+public record NearCacheProperties(boolean enabled, Duration pollInterval, int batchSize) {
+}
@@ -0,0 +1,11 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Bound on the encoded response bodies kept in memory, counting both the JSON and the gzip bytes.
+ */
+@ConfigurationProperties(prefix = "game-provider.response-cache")
+public record ResponseCacheProperties(DataSize maximumSize) {
+}
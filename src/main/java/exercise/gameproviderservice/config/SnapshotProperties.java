@@ -0,0 +1,10 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Opt-in switch for answering every read from an in-memory snapshot of the catalog instead of the database.
+ */
+@ConfigurationProperties(prefix = "game-provider.snapshot")
+public record SnapshotProperties(boolean enabled) {
+}
@@ -0,0 +1,10 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Opt-in switch for merging concurrent updates of the same game into a single write.
+ */
+@ConfigurationProperties(prefix = "game-provider.update-coalescing")
+public record UpdateCoalescingProperties(boolean enabled) {
+}
@@ -0,0 +1,47 @@
+package exercise.gameproviderservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Serves requests on virtual threads instead of Tomcat's platform-thread pool.
+ * <p>
+ * Tomcat's connector runs every request, and the {@code GameService} transaction it opens, on a new virtual thread,
+ * and the {@code applicationTaskExecutor} used by MVC async requests does the same. Concurrency is then bounded by
+ * the Hikari pool rather than the thread count: a virtual thread waiting for a connection parks without holding a
+ * carrier. Embedded H2 executes each statement inside a {@code synchronized} block on the session, so the carrier
+ * stays pinned for the duration of a statement; with an in-memory database that is CPU time, not IO.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "game-provider.virtual-threads", name = "enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        VirtualThreads.requireSupported();
+        log.info("Serving requests on virtual threads");
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+}
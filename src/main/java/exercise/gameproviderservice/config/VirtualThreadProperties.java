@@ -0,0 +1,10 @@
+package exercise.gameproviderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Opt-in switch for serving requests on virtual threads. Requires the Java 21 build, see the {@code java21} Maven profile.
+ */
+@ConfigurationProperties(prefix = "game-provider.virtual-threads")
+public record VirtualThreadProperties(boolean enabled) {
+}
@@ -0,0 +1,8 @@
+package exercise.gameproviderservice.domain;
+
+public record BatchItemResult(String name, BatchItemStatus status, GameModel game) {
+
+    public static BatchItemResult of(String name, BatchItemStatus status) {
+        return new BatchItemResult(name, status, null);
+    }
+}
@@ -0,0 +1,9 @@
+package exercise.gameproviderservice.domain;
+
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ALREADY_EXISTS,
+    NOT_FOUND
+}
@@ -0,0 +1,52 @@
+package exercise.gameproviderservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Latest change of one game, compacted: a game has at most one row, replaced on every write, and a deleted
+ * game keeps its row as a tombstone. Rows are insert-only, so {@link #isNew()} spares the select before insert.
+ */
+@AllArgsConstructor
+@Data
+@Entity
+@NoArgsConstructor
+@Table(indexes = @Index(name = GameChange.UNIQUE_GAME_NAME_INDEX, columnList = "gameName", unique = true))
+public class GameChange implements Persistable<Long> {
+    public static final String UNIQUE_GAME_NAME_INDEX = "uk_game_change_game_name";
+
+    @Id
+    private Long sequence;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private GameChangeType type;
+
+    @Column(nullable = false)
+    private String gameName;
+
+    /**
+     * The node that made the change, so that a node tailing the log can skip its own writes.
+     */
+    @Column(nullable = false)
+    private String origin;
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
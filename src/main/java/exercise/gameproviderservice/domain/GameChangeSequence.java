@@ -0,0 +1,26 @@
+package exercise.gameproviderservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter behind {@link GameChange#getSequence()}. Writers bump it inside their own transaction and
+ * hold its row lock until commit, so sequences become visible in the order they were allocated.
+ */
+@AllArgsConstructor
+@Data
+@Entity
+@NoArgsConstructor
+public class GameChangeSequence {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+}
@@ -0,0 +1,7 @@
+package exercise.gameproviderservice.domain;
+
+public enum GameChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
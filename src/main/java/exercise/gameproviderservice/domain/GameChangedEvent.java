@@ -0,0 +1,29 @@
+package exercise.gameproviderservice.domain;
+
+import java.util.List;
+
+/**
+ * Published by {@code GameService} once per write, naming every game it changed in the same way. Listeners
+ * interested in committed state only should use {@code @TransactionalEventListener}.
+ * <p>
+ * A {@code refresh} event announces no new change: it re-announces one already published, only so that local caches
+ * reload games they may have put back stale in the meantime.
+ */
+public record GameChangedEvent(GameChangeType type, List<String> gameNames, boolean refresh) {
+
+    public GameChangedEvent {
+        gameNames = List.copyOf(gameNames);
+    }
+
+    public GameChangedEvent(GameChangeType type, List<String> gameNames) {
+        this(type, gameNames, false);
+    }
+
+    public GameChangedEvent(GameChangeType type, String gameName) {
+        this(type, List.of(gameName));
+    }
+
+    public GameChangedEvent asRefresh() {
+        return new GameChangedEvent(type, gameNames, true);
+    }
+}
@@ -0,0 +1,61 @@
+package exercise.gameproviderservice.domain;
+
+import exercise.gameproviderservice.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last game returned in a page: its name and id for pages ordered by name, or, with no name, its
+ * creation date and id for pages {@linkplain GameFilter#ordersByCreation() ordered by creation}.
+ * Clients only ever see the opaque {@link #encode() encoded} form.
+ */
+public record GameCursor(String name, Long id, Instant dateOfCreation) {
+
+    private static final char NAME_SEPARATOR = ':';
+    private static final char CREATION_SEPARATOR = '@';
+
+    public GameCursor(String name, Long id) {
+        this(name, id, null);
+    }
+
+    public static GameCursor of(GameView gameView) {
+        return new GameCursor(gameView.name(), gameView.id());
+    }
+
+    public static GameCursor byCreation(GameView gameView) {
+        return new GameCursor(null, gameView.id(), gameView.dateOfCreation());
+    }
+
+    public boolean isByCreation() {
+        return name == null;
+    }
+
+    public static GameCursor decode(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separatorIndex = 0;
+            while (Character.isDigit(decoded.charAt(separatorIndex))) {
+                separatorIndex++;
+            }
+            var id = Long.valueOf(decoded.substring(0, separatorIndex));
+            var value = decoded.substring(separatorIndex + 1);
+            return switch (decoded.charAt(separatorIndex)) {
+                case NAME_SEPARATOR -> new GameCursor(value, id);
+                case CREATION_SEPARATOR -> new GameCursor(null, id, value.isEmpty() ? null : Instant.parse(value));
+                default -> throw new InvalidCursorException(cursor);
+            };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        var raw = isByCreation()
+                ? id + String.valueOf(CREATION_SEPARATOR) + (dateOfCreation == null ? "" : dateOfCreation)
+                : id + String.valueOf(NAME_SEPARATOR) + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
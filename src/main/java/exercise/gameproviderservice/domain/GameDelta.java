@@ -0,0 +1,9 @@
+package exercise.gameproviderservice.domain;
+
+import java.time.Instant;
+
+/**
+ * One entry of the change log joined with the current state of its game; tombstones carry the name only.
+ */
+public record GameDelta(Long sequence, GameChangeType type, String name, Instant dateOfCreation, Boolean active) {
+}
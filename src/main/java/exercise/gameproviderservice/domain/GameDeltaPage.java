@@ -0,0 +1,14 @@
+package exercise.gameproviderservice.domain;
+
+import java.util.List;
+
+/**
+ * Changes after {@code since} in sequence order. {@link #lastSequence()} is what the client passes as
+ * {@code since} on its next call.
+ */
+public record GameDeltaPage(List<GameDelta> changes, long since, boolean hasMore) {
+
+    public long lastSequence() {
+        return changes.isEmpty() ? since : changes.get(changes.size() - 1).sequence();
+    }
+}
@@ -0,0 +1,50 @@
+package exercise.gameproviderservice.domain;
+
+import exercise.gameproviderservice.domain.exception.InvalidCursorException;
+import exercise.gameproviderservice.domain.exception.InvalidFilterException;
+
+import java.time.Instant;
+
+/**
+ * Optional restrictions on a game listing; {@code null} components do not restrict. The creation window is
+ * {@code [createdFrom, createdTo)}.
+ */
+public record GameFilter(NamePrefix prefix, Boolean active, Instant createdFrom, Instant createdTo) {
+
+    public static final GameFilter NONE = new GameFilter(null, null, null, null);
+
+    public GameFilter {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new InvalidFilterException("createdFrom must be before createdTo");
+        }
+    }
+
+    public boolean isEmpty() {
+        return prefix == null && active == null && createdFrom == null && createdTo == null;
+    }
+
+    /**
+     * Whether pages are ordered by creation date and id rather than by name and id. Without a name prefix, the
+     * {@code (active, date_of_creation, id)} index serves that order when {@code active} is set, and the
+     * {@code (date_of_creation, id)} index when only the creation window is.
+     */
+    public boolean ordersByCreation() {
+        return prefix == null && !isEmpty();
+    }
+
+    /**
+     * Rejects a cursor handed out for pages in the other order.
+     */
+    public void checkCursor(GameCursor after) {
+        if (after != null && after.isByCreation() != ordersByCreation()) {
+            throw new InvalidCursorException(after.encode());
+        }
+    }
+
+    public boolean matches(GameView game) {
+        return (prefix == null || prefix.matches(game.name()))
+                && (active == null || active.equals(game.active()))
+                && (createdFrom == null || game.dateOfCreation() != null && !game.dateOfCreation().isBefore(createdFrom))
+                && (createdTo == null || game.dateOfCreation() != null && game.dateOfCreation().isBefore(createdTo));
+    }
+}
@@ -1,24 +1,49 @@
 package exercise.gameproviderservice.domain;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GameModel.CACHE_REGION)
+@Cacheable
 @Data
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = GameModel.UNIQUE_NAME_INDEX, columnList = "name", unique = true),
+        @Index(name = GameModel.ACTIVE_DATE_INDEX, columnList = "active, dateOfCreation, id"),
+        @Index(name = GameModel.DATE_INDEX, columnList = "dateOfCreation, id")
+})
 public class GameModel {
+    public static final String CACHE_REGION = "games";
+    public static final String BY_NAME_CACHE_REGION = "games-by-name";
+    public static final String UNIQUE_NAME_INDEX = "uk_game_model_name";
+    public static final String ACTIVE_DATE_INDEX = "ix_game_model_active_date";
+    public static final String DATE_INDEX = "ix_game_model_date";
+    public static final String ID_SEQUENCE = "game_model_seq";
+    private static final String ID_GENERATOR = "game_model_id";
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
+    @SequenceGenerator(name = ID_GENERATOR, sequenceName = ID_SEQUENCE, allocationSize = 50)
     private Long id;
 
+    @Column(nullable = false)
     private String name;
     private Instant dateOfCreation;
     private Boolean active;
@@ -0,0 +1,11 @@
+package exercise.gameproviderservice.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+public record GamePage<T>(List<T> games, GameCursor next) {
+
+    public Optional<GameCursor> nextCursor() {
+        return Optional.ofNullable(next);
+    }
+}
@@ -0,0 +1,178 @@
+package exercise.gameproviderservice.domain;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Immutable copy of the whole catalog: a name index for single lookups and an array sorted by name and id for
+ * cursor pagination. Changes never touch an existing snapshot, {@link #replace(Collection, Collection)} returns a
+ * new one.
+ */
+public final class GameSnapshot {
+
+    public static final GameSnapshot EMPTY = new GameSnapshot(Map.of(), new GameView[0]);
+
+    private static final Comparator<GameView> ORDER = Comparator.comparing(GameView::name).thenComparing(GameView::id);
+    private static final Comparator<GameView> CREATION_ORDER = Comparator.comparing(GameView::dateOfCreation,
+            Comparator.nullsFirst(Comparator.<Instant>naturalOrder())).thenComparing(GameView::id);
+
+    private final Map<String, GameView> byName;
+    private final GameView[] sorted;
+
+    private GameSnapshot(Map<String, GameView> byName, GameView[] sorted) {
+        this.byName = byName;
+        this.sorted = sorted;
+    }
+
+    public static GameSnapshot of(Collection<GameView> games) {
+        var byName = new HashMap<String, GameView>(games.size() * 4 / 3 + 1);
+        games.forEach(game -> byName.put(game.name(), game));
+        var sorted = byName.values().toArray(GameView[]::new);
+        Arrays.sort(sorted, ORDER);
+        return new GameSnapshot(byName, sorted);
+    }
+
+    public Optional<GameView> find(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    public GamePage<GameView> page(int limit, GameCursor after) {
+        var from = after == null ? 0 : indexAfter(after);
+        var to = Math.min(from + limit, sorted.length);
+        var games = List.of(Arrays.copyOfRange(sorted, from, to));
+
+        return to < sorted.length
+                ? new GamePage<>(games, GameCursor.of(sorted[to - 1]))
+                : new GamePage<>(games, null);
+    }
+
+    /**
+     * Like {@link #page(int, GameCursor)}, restricted to games matching {@code filter}. A name prefix narrows the
+     * scan to its range with two binary searches; the other criteria are checked game by game.
+     */
+    public GamePage<GameView> page(int limit, GameCursor after, GameFilter filter) {
+        if (filter.ordersByCreation()) {
+            return pageByCreation(limit, after, filter);
+        }
+        var from = filter.prefix() == null ? 0 : indexOf(filter.prefix().from());
+        if (after != null) {
+            from = Math.max(from, indexAfter(after));
+        }
+        var end = filter.prefix() == null || filter.prefix().to() == null ? sorted.length : indexOf(filter.prefix().to());
+
+        var games = new ArrayList<GameView>(Math.min(limit, Math.max(end - from, 0)));
+        for (int i = from; i < end; i++) {
+            if (!filter.matches(sorted[i])) {
+                continue;
+            }
+            if (games.size() == limit) {
+                return new GamePage<>(List.copyOf(games), GameCursor.of(games.get(limit - 1)));
+            }
+            games.add(sorted[i]);
+        }
+        return new GamePage<>(List.copyOf(games), null);
+    }
+
+    /**
+     * Pages in creation order cannot follow the name order, so every game is checked, keeping the first
+     * {@code limit + 1} matches after the cursor in a bounded heap.
+     */
+    private GamePage<GameView> pageByCreation(int limit, GameCursor after, GameFilter filter) {
+        var cursor = after == null ? null : new GameView(after.id(), null, after.dateOfCreation(), null, null);
+        var first = new PriorityQueue<GameView>(limit + 2, CREATION_ORDER.reversed());
+        for (var game : sorted) {
+            if (filter.matches(game) && (cursor == null || CREATION_ORDER.compare(game, cursor) > 0)) {
+                first.add(game);
+                if (first.size() > limit + 1) {
+                    first.poll();
+                }
+            }
+        }
+
+        var games = first.toArray(GameView[]::new);
+        Arrays.sort(games, CREATION_ORDER);
+        return games.length > limit
+                ? new GamePage<>(List.of(games).subList(0, limit), GameCursor.byCreation(games[limit - 1]))
+                : new GamePage<>(List.of(games), null);
+    }
+
+    public Stream<GameView> stream() {
+        return Arrays.stream(sorted);
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    public GameSnapshot with(GameView game) {
+        return replace(List.of(game.name()), List.of(game));
+    }
+
+    public GameSnapshot without(String name) {
+        return byName.containsKey(name) ? replace(List.of(name), List.of()) : this;
+    }
+
+    /**
+     * Returns a snapshot in which every one of {@code names} is either one of {@code games}, as reloaded after a
+     * write, or gone. However many games change, the catalog is copied once: the name index as a whole, and the
+     * sorted array by merging the reloaded games into the games that remain.
+     */
+    public GameSnapshot replace(Collection<String> names, Collection<GameView> games) {
+        var newByName = new HashMap<>(byName);
+        var removed = 0;
+        for (var name : names) {
+            if (newByName.remove(name) != null) {
+                removed++;
+            }
+        }
+        var added = games.toArray(GameView[]::new);
+        Arrays.sort(added, ORDER);
+        for (var game : added) {
+            if (newByName.put(game.name(), game) != null) {
+                removed++;
+            }
+        }
+        if (removed == 0 && added.length == 0) {
+            return this;
+        }
+
+        var newSorted = new GameView[sorted.length - removed + added.length];
+        var next = 0;
+        var nextAdded = 0;
+        for (var game : sorted) {
+            if (newByName.get(game.name()) != game) {
+                continue;
+            }
+            while (nextAdded < added.length && ORDER.compare(added[nextAdded], game) < 0) {
+                newSorted[next++] = added[nextAdded++];
+            }
+            newSorted[next++] = game;
+        }
+        while (nextAdded < added.length) {
+            newSorted[next++] = added[nextAdded++];
+        }
+        return new GameSnapshot(newByName, newSorted);
+    }
+
+    /**
+     * Index of the first game whose name is not less than {@code name}.
+     */
+    private int indexOf(String name) {
+        var index = Arrays.binarySearch(sorted, new GameView(Long.MIN_VALUE, name, null, null, null), ORDER);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int indexAfter(GameCursor cursor) {
+        var index = Arrays.binarySearch(sorted, new GameView(cursor.id(), cursor.name(), null, null, null), ORDER);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
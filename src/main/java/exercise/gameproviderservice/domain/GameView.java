@@ -0,0 +1,11 @@
+package exercise.gameproviderservice.domain;
+
+import java.time.Instant;
+
+/**
+ * Read-only projection of a {@link GameModel} row, selected directly by the read queries so that no entity is
+ * hydrated, snapshotted for dirty checking or held by the persistence context. Carries the id and version the
+ * API needs for cursors and ETags.
+ */
+public record GameView(Long id, String name, Instant dateOfCreation, Boolean active, Integer version) {
+}
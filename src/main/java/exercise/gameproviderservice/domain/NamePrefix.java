@@ -0,0 +1,28 @@
+package exercise.gameproviderservice.domain;
+
+/**
+ * A game name prefix seen as the half-open range of names {@code [from, to)}, so that it can be answered by a
+ * range scan over the sorted name index rather than by filtering.
+ */
+public record NamePrefix(String value) {
+
+    public String from() {
+        return value;
+    }
+
+    /**
+     * The smallest string sorting after every name that starts with the prefix, or {@code null} when no such
+     * string exists and the range is open-ended.
+     */
+    public String to() {
+        var end = value.length();
+        while (end > 0 && value.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        return end == 0 ? null : value.substring(0, end - 1) + (char) (value.charAt(end - 1) + 1);
+    }
+
+    public boolean matches(String name) {
+        return name.startsWith(value);
+    }
+}
@@ -0,0 +1,7 @@
+package exercise.gameproviderservice.domain.exception;
+
+public class ChangeFeedFullException extends RuntimeException {
+    public ChangeFeedFullException(int maxSubscribers) {
+        super("The change feed already has %d subscribers, please retry later".formatted(maxSubscribers));
+    }
+}
@@ -0,0 +1,7 @@
+package exercise.gameproviderservice.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("The cursor [%s] is not valid".formatted(cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package exercise.gameproviderservice.domain.exception;
+
+public class InvalidFilterException extends RuntimeException {
+    public InvalidFilterException(String reason) {
+        super("The filter is not valid: %s".formatted(reason));
+    }
+}
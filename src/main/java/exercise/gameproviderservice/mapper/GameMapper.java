@@ -1,6 +1,11 @@
 package exercise.gameproviderservice.mapper;
 
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.GameDelta;
 import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GameView;
+import exercise.gameproviderservice.rest.payloads.BatchItemResponse;
+import exercise.gameproviderservice.rest.payloads.GameDeltaResponse;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
 import exercise.gameproviderservice.rest.payloads.GameResponse;
 import org.mapstruct.Mapper;
@@ -20,4 +25,21 @@ public interface GameMapper {
     @Mapping(target = "dateOfCreation", source = "dateOfCreation")
     @Mapping(target = "active", source = "active")
     GameResponse gameToGameResponse(GameModel gameModel);
+
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "dateOfCreation", source = "dateOfCreation")
+    @Mapping(target = "active", source = "active")
+    GameResponse gameViewToGameResponse(GameView gameView);
+
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "status", source = "status")
+    @Mapping(target = "game", source = "game")
+    BatchItemResponse batchItemResultToBatchItemResponse(BatchItemResult batchItemResult);
+
+    @Mapping(target = "sequence", source = "sequence")
+    @Mapping(target = "type", source = "type")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "dateOfCreation", source = "dateOfCreation")
+    @Mapping(target = "active", source = "active")
+    GameDeltaResponse gameDeltaToGameDeltaResponse(GameDelta gameDelta);
 }
@@ -0,0 +1,101 @@
+package exercise.gameproviderservice.repository;
+
+import exercise.gameproviderservice.config.DurableStoreProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the file-backed database when {@code game-provider.durable-store.enabled} is set.
+ * <p>
+ * The database outlives the connection pool: H2 neither closes it on the last connection nor from its own JVM
+ * shutdown hook. The data source depends on this store, so it is only closed once every user of the pool is gone,
+ * with a plain {@code SHUTDOWN} whose compaction is bounded by {@code maxCompactTime}. A marker file records that
+ * shutdown, and its absence on the next start is reported, since up to {@code writeDelay} of commits may be lost.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DurableStore {
+
+    static final String DATABASE_NAME = "games";
+    static final String DATABASE_FILE = DATABASE_NAME + ".mv.db";
+    static final String CLEAN_SHUTDOWN_MARKER = "clean-shutdown";
+
+    private final DurableStoreProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+
+    public String url() {
+        return "jdbc:h2:file:" + properties.directory().toAbsolutePath().resolve(DATABASE_NAME)
+                + ";CACHE_SIZE=" + properties.cacheSize().toKilobytes()
+                + ";WRITE_DELAY=" + properties.writeDelay().toMillis()
+                + ";MAX_COMPACT_TIME=" + properties.maxCompactTime().toMillis()
+                + ";AUTO_COMPACT_FILL_RATE=" + properties.autoCompactFillRate()
+                + ";DB_CLOSE_ON_EXIT=FALSE;DB_CLOSE_DELAY=-1";
+    }
+
+    /**
+     * Checks the previous shutdown and opens the database ahead of the pool, so that a store that cannot be read
+     * fails the startup, then points the pool at it instead of the configured URL.
+     */
+    @PostConstruct
+    void open() throws IOException, SQLException {
+        if (!properties.enabled()) {
+            return;
+        }
+        var directory = properties.directory();
+        Files.createDirectories(directory);
+        var existing = Files.exists(directory.resolve(DATABASE_FILE));
+        var cleanlyShutDown = Files.deleteIfExists(directory.resolve(CLEAN_SHUTDOWN_MARKER));
+        if (existing && !cleanlyShutDown) {
+            log.warn("Durable store {} was not shut down cleanly, commits of its last {} may be lost",
+                    directory.toAbsolutePath(), properties.writeDelay());
+        }
+
+        var start = System.nanoTime();
+        try (var connection = connect()) {
+            connection.isValid(0);
+        }
+        log.info("Opened {} durable store {} ({} KB) in {} ms", existing ? "existing" : "new",
+                directory.toAbsolutePath(), size(directory.resolve(DATABASE_FILE)) / 1024,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        dataSourceProperties.setUrl(url());
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (!properties.enabled()) {
+            return;
+        }
+        var start = System.nanoTime();
+        try (var connection = connect(); var statement = connection.createStatement()) {
+            statement.execute(properties.compactOnShutdown() ? "SHUTDOWN COMPACT" : "SHUTDOWN");
+        } catch (SQLException e) {
+            log.warn("Shutting down durable store {} failed", properties.directory().toAbsolutePath(), e);
+            return;
+        }
+        Files.createFile(properties.directory().resolve(CLEAN_SHUTDOWN_MARKER));
+        log.info("Shut down durable store {} in {} ms", properties.directory().toAbsolutePath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private static long size(Path file) throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+}
@@ -0,0 +1,49 @@
+package exercise.gameproviderservice.repository;
+
+import exercise.gameproviderservice.domain.GameChange;
+import exercise.gameproviderservice.domain.GameDelta;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GameChangeRepository extends JpaRepository<GameChange, Long> {
+
+    @Modifying
+    @Query(value = """
+            insert into game_change_sequence (id, last_sequence)
+            select :id, 0 where not exists (select 1 from game_change_sequence where id = :id)
+            """, nativeQuery = true)
+    int createSequence(@Param("id") int id);
+
+    /**
+     * Takes the counter's row lock, held until the calling transaction ends.
+     */
+    @Modifying
+    @Query("update GameChangeSequence s set s.lastSequence = s.lastSequence + :count where s.id = :id")
+    int incrementSequence(@Param("id") int id, @Param("count") long count);
+
+    @Query("select s.lastSequence from GameChangeSequence s where s.id = :id")
+    long findLastSequence(@Param("id") int id);
+
+    @Modifying
+    @Query("delete from GameChange c where c.gameName in :names")
+    int deleteAllByGameNameIn(@Param("names") Collection<String> names);
+
+    @Query("select c from GameChange c where c.sequence > :since order by c.sequence asc")
+    List<GameChange> findChangesAfter(@Param("since") long since, Pageable pageable);
+
+    @Query("""
+            select new exercise.gameproviderservice.domain.GameDelta(c.sequence, c.type, c.gameName, g.dateOfCreation, g.active)
+            from GameChange c left join GameModel g on g.name = c.gameName
+            where c.sequence > :since
+            order by c.sequence asc
+            """)
+    List<GameDelta> findDeltasAfter(@Param("since") long since, Pageable pageable);
+}
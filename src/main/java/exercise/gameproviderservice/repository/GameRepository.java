@@ -1,12 +1,82 @@
 package exercise.gameproviderservice.repository;
 
 import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GameView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface GameRepository extends JpaRepository<GameModel, Long> {
+public interface GameRepository extends JpaRepository<GameModel, Long>, GameViewQueries {
+    String SELECT_VIEW = "select new exercise.gameproviderservice.domain.GameView(g.id, g.name, g.dateOfCreation, g.active, g.version) from GameModel g ";
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = GameModel.BY_NAME_CACHE_REGION)
+    })
     Optional<GameModel> findByName(String name);
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = GameModel.BY_NAME_CACHE_REGION)
+    })
+    @Query(SELECT_VIEW + "where g.name = :name")
+    Optional<GameView> findViewByName(@Param("name") String name);
+
+    /**
+     * Bypasses the query cache, which may still hold the state from before the write being applied.
+     */
+    @Query(SELECT_VIEW + "where g.name in :names")
+    List<GameView> findViewsByNameIn(@Param("names") Collection<String> names);
+
+    @Query("select g.name from GameModel g where g.name in :names")
+    Set<String> findNamesIn(@Param("names") Collection<String> names);
+
+    @Query("select g.id from GameModel g where g.name in :names")
+    Set<Long> findIdsByNameIn(@Param("names") Collection<String> names);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update GameModel g
+            set g.active = coalesce(:active, g.active),
+                g.dateOfCreation = coalesce(:dateOfCreation, g.dateOfCreation),
+                g.version = g.version + 1
+            where g.name in :names
+            """)
+    int updateAllByNameIn(@Param("names") Collection<String> names,
+                          @Param("active") Boolean active,
+                          @Param("dateOfCreation") Instant dateOfCreation);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GameModel g where g.name in :names")
+    int deleteAllByNameIn(@Param("names") Collection<String> names);
+
+    @Query(SELECT_VIEW + "order by g.name asc, g.id asc")
+    List<GameView> findAllViews(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_VIEW + "order by g.name asc, g.id asc")
+    Stream<GameView> streamAllViews();
+
+    @Query(SELECT_VIEW + """
+            where g.name > :name or (g.name = :name and g.id > :id)
+            order by g.name asc, g.id asc
+            """)
+    List<GameView> findAllViewsAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package exercise.gameproviderservice.repository;
+
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.GameView;
+
+import java.util.List;
+
+/**
+ * Listing queries whose where clause depends on the filter, so that each one only carries the predicates an
+ * index can serve.
+ */
+public interface GameViewQueries {
+
+    List<GameView> findViews(GameFilter filter, GameCursor after, int limit);
+}
@@ -0,0 +1,103 @@
+package exercise.gameproviderservice.repository;
+
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GameView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link GameViewQueries}: the name prefix becomes a range on the unique name index,
+ * the active flag and creation window a range on the composite {@code (active, date_of_creation, id)} index, and a
+ * creation window alone a range on the {@code (date_of_creation, id)} one. Pages
+ * {@linkplain GameFilter#ordersByCreation() ordered by creation} follow either index from the cursor on, so a deep
+ * page costs no more than the first one.
+ */
+class GameViewQueriesImpl implements GameViewQueries {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DATE_OF_CREATION = "dateOfCreation";
+    private static final String ACTIVE = "active";
+    private static final String VERSION = "version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GameView> findViews(GameFilter filter, GameCursor after, int limit) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(GameView.class);
+        var game = query.from(GameModel.class);
+        var predicates = new ArrayList<Predicate>();
+
+        if (filter.prefix() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(game.get(NAME), filter.prefix().from()));
+            if (filter.prefix().to() != null) {
+                predicates.add(builder.lessThan(game.get(NAME), filter.prefix().to()));
+            }
+        }
+        if (filter.active() != null) {
+            predicates.add(builder.equal(game.get(ACTIVE), filter.active()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(game.<Instant>get(DATE_OF_CREATION), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(builder.lessThan(game.<Instant>get(DATE_OF_CREATION), filter.createdTo()));
+        }
+        List<Order> order;
+        if (filter.ordersByCreation()) {
+            if (after != null) {
+                predicates.add(afterByCreation(builder, game, after));
+            }
+            var nullsFirst = ((HibernateCriteriaBuilder) builder).asc(game.get(DATE_OF_CREATION), true);
+            order = List.of(nullsFirst, builder.asc(game.get(ID)));
+        } else {
+            if (after != null) {
+                predicates.add(afterByName(builder, game, after));
+            }
+            order = List.of(builder.asc(game.get(NAME)), builder.asc(game.get(ID)));
+        }
+
+        query.select(builder.construct(GameView.class,
+                        game.get(ID), game.get(NAME), game.get(DATE_OF_CREATION), game.get(ACTIVE), game.get(VERSION)))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static Predicate afterByName(CriteriaBuilder builder, Root<GameModel> game, GameCursor after) {
+        return builder.or(
+                builder.greaterThan(game.get(NAME), after.name()),
+                builder.and(builder.equal(game.get(NAME), after.name()), builder.greaterThan(game.get(ID), after.id())));
+    }
+
+    /**
+     * Games without a creation date sort first, as in {@code GameSnapshot}.
+     */
+    private static Predicate afterByCreation(CriteriaBuilder builder, Root<GameModel> game, GameCursor after) {
+        var dateOfCreation = game.<Instant>get(DATE_OF_CREATION);
+        if (after.dateOfCreation() == null) {
+            return builder.or(
+                    builder.isNotNull(dateOfCreation),
+                    builder.and(builder.isNull(dateOfCreation), builder.greaterThan(game.get(ID), after.id())));
+        }
+        return builder.or(
+                builder.greaterThan(dateOfCreation, after.dateOfCreation()),
+                builder.and(builder.equal(dateOfCreation, after.dateOfCreation()), builder.greaterThan(game.get(ID), after.id())));
+    }
+}
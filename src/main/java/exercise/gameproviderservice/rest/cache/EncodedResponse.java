@@ -0,0 +1,50 @@
+package exercise.gameproviderservice.rest.cache;
+
+import exercise.gameproviderservice.rest.payloads.PayloadFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized once, kept both as is and gzip-compressed, with the headers needed to replay it.
+ */
+public record EncodedResponse(String eTag, String nextCursor, byte[] identity, byte[] gzip) {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    public static EncodedResponse of(String eTag, String nextCursor, byte[] identity) {
+        return new EncodedResponse(eTag, nextCursor, identity, gzip(identity));
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : identity;
+    }
+
+    public String eTag(boolean gzipped) {
+        return gzipped ? gzipTag(eTag) : eTag;
+    }
+
+    /**
+     * Tags a strong entity tag with the gzip content coding, since the compressed bytes are a representation of
+     * their own, the way {@link PayloadFormat#tag(String)} tags each format.
+     */
+    public static String gzipTag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    int weight() {
+        return identity.length + gzip.length;
+    }
+
+    private static byte[] gzip(byte[] identity) {
+        var compressed = new ByteArrayOutputStream(identity.length / 4 + 32);
+        try (var gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
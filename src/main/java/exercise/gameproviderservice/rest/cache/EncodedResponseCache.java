@@ -0,0 +1,51 @@
+package exercise.gameproviderservice.rest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import exercise.gameproviderservice.config.ResponseCacheProperties;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.service.CatalogVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * Encoded bodies of the hot {@code GET} responses, keyed by the catalog version they were read at.
+ * <p>
+ * A committed write bumps the catalog version, so an entry built from older data can never be served again,
+ * even when its load raced with the write. The whole cache is also dropped on every change to free the memory
+ * right away, once the version has moved on.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class EncodedResponseCache {
+
+    private final Cache<Key, EncodedResponse> responses;
+
+    public EncodedResponseCache(ResponseCacheProperties properties) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .<Key, EncodedResponse>weigher((key, response) -> response.weight())
+                .build();
+    }
+
+    public EncodedResponse get(String catalogVersion, String resource, Supplier<EncodedResponse> loader) {
+        return responses.get(new Key(catalogVersion, resource), key -> loader.get());
+    }
+
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        invalidateAll();
+    }
+
+    private record Key(String catalogVersion, String resource) {
+    }
+}
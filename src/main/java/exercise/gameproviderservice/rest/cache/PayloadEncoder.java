@@ -0,0 +1,39 @@
+package exercise.gameproviderservice.rest.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import exercise.gameproviderservice.rest.payloads.PayloadFormat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Serializes bodies that are cached already encoded, with the same object mappers as the message converters.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class PayloadEncoder {
+
+    private final Map<PayloadFormat, ObjectMapper> objectMappers = new EnumMap<>(PayloadFormat.class);
+
+    public PayloadEncoder(ObjectMapper objectMapper,
+                          MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter,
+                          MappingJackson2CborHttpMessageConverter cborHttpMessageConverter) {
+        objectMappers.put(PayloadFormat.JSON, objectMapper);
+        objectMappers.put(PayloadFormat.SMILE, smileHttpMessageConverter.getObjectMapper());
+        objectMappers.put(PayloadFormat.CBOR, cborHttpMessageConverter.getObjectMapper());
+    }
+
+    public byte[] encode(PayloadFormat format, Object body) {
+        try {
+            return objectMappers.get(format).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
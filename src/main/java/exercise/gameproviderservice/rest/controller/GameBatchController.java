@@ -0,0 +1,73 @@
+package exercise.gameproviderservice.rest.controller;
+
+import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.rest.payloads.BatchItemResponse;
+import exercise.gameproviderservice.rest.payloads.BulkDeleteRequest;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.GameService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static exercise.gameproviderservice.rest.payloads.PayloadFormat.CBOR_VALUE;
+import static exercise.gameproviderservice.rest.payloads.PayloadFormat.SMILE_VALUE;
+
+/**
+ * Collection-level operations on games, exposed as custom methods ({@code /v1/games:<verb>}).
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping(path = "/v1", produces = {APPLICATION_JSON_VALUE, SMILE_VALUE, CBOR_VALUE})
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class GameBatchController {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final GameService gameService;
+    private final GameMapper gameMapper;
+
+    @PostMapping("/games:batch")
+    public ResponseEntity<List<BatchItemResponse>> insertGames(
+            @NotEmpty @Size(max = MAX_BATCH_SIZE) @RequestBody List<@Valid GameRequest> gameRequests) {
+        var results = gameService.saveGames(gameRequests)
+                .stream()
+                .map(gameMapper::batchItemResultToBatchItemResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(results);
+    }
+
+    @PatchMapping("/games:bulk")
+    public ResponseEntity<List<BatchItemResponse>> updateGames(@Valid @RequestBody BulkUpdateRequest bulkUpdateRequest) {
+        var results = gameService.updateGames(bulkUpdateRequest)
+                .stream()
+                .map(gameMapper::batchItemResultToBatchItemResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping("/games:batchDelete")
+    public ResponseEntity<List<BatchItemResponse>> deleteGames(@Valid @RequestBody BulkDeleteRequest bulkDeleteRequest) {
+        var results = gameService.deleteGames(bulkDeleteRequest.names())
+                .stream()
+                .map(gameMapper::batchItemResultToBatchItemResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(results);
+    }
+}
@@ -1,18 +1,35 @@
 package exercise.gameproviderservice.rest.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.NamePrefix;
 import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.rest.cache.EncodedResponse;
+import exercise.gameproviderservice.rest.cache.EncodedResponseCache;
+import exercise.gameproviderservice.rest.cache.PayloadEncoder;
+import exercise.gameproviderservice.rest.feed.GameChangeFeed;
+import exercise.gameproviderservice.rest.payloads.GameChangesResponse;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
 import exercise.gameproviderservice.rest.payloads.GameResponse;
+import exercise.gameproviderservice.rest.payloads.PayloadFormat;
+import exercise.gameproviderservice.service.CatalogVersion;
+import exercise.gameproviderservice.service.ConflictRetrier;
 import exercise.gameproviderservice.service.GameService;
+import exercise.gameproviderservice.service.UpdateCoalescer;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.StaleObjectStateException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,35 +37,129 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+import static exercise.gameproviderservice.rest.payloads.PayloadFormat.CBOR_VALUE;
+import static exercise.gameproviderservice.rest.payloads.PayloadFormat.SMILE_VALUE;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
-@RequestMapping(path = "/v1/games", produces = APPLICATION_JSON_VALUE)
+@RequestMapping(path = "/v1/games", produces = {APPLICATION_JSON_VALUE, SMILE_VALUE, CBOR_VALUE})
 @RequiredArgsConstructor
 @Slf4j
+@Validated
 public class GameController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String DEFAULT_PAGE_SIZE = "100";
+    static final long MAX_PAGE_SIZE = 1000;
+    static final int MAX_PREFIX_LENGTH = 255;
+    private static final int NDJSON_SEPARATOR = '\n';
+    private static final String GZIP = "gzip";
+
     private final GameService gameService;
     private final GameMapper gameMapper;
+    private final ObjectMapper objectMapper;
+    private final ConflictRetrier conflictRetrier;
+    private final CatalogVersion catalogVersion;
+    private final EncodedResponseCache responseCache;
+    private final PayloadEncoder payloadEncoder;
+    private final UpdateCoalescer updateCoalescer;
+    private final GameChangeFeed changeFeed;
 
     @GetMapping
-    public ResponseEntity<List<GameResponse>> getGames() {
-        var gameList = gameService.getGames()
+    public ResponseEntity<byte[]> getGames(
+            @Min(1) @Max(MAX_PAGE_SIZE) @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after,
+            @Size(min = 1, max = MAX_PREFIX_LENGTH) @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Instant createdFrom,
+            @RequestParam(required = false) Instant createdTo,
+            WebRequest webRequest) {
+        var cursor = after == null ? null : GameCursor.decode(after);
+        var filter = new GameFilter(prefix == null ? null : new NamePrefix(prefix), active, createdFrom, createdTo);
+        filter.checkCursor(cursor);
+
+        var version = catalogVersion.current();
+        var format = PayloadFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        var gzipped = acceptsGzip(webRequest);
+        var eTag = format.tag("\"" + version + "\"");
+        var sentETag = gzipped ? EncodedResponse.gzipTag(eTag) : eTag;
+        if (webRequest.checkNotModified(sentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(sentETag).build();
+        }
+
+        var resource = "games?limit=" + limit + "&after=" + after + "&filter=" + filter + "&format=" + format;
+        var response = responseCache.get(version, resource, () -> {
+            var page = gameService.getGames(limit, cursor, filter);
+            var gameList = page.games()
+                    .stream()
+                    .map(gameMapper::gameViewToGameResponse)
+                    .toList();
+            return EncodedResponse.of(eTag, page.nextCursor().map(GameCursor::encode).orElse(null),
+                    payloadEncoder.encode(format, gameList));
+        });
+
+        return encodedResponse(response, format, gzipped);
+    }
+
+    @GetMapping(path = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportGames() {
+        StreamingResponseBody body = outputStream -> {
+            outputStream.flush();
+            try {
+                gameService.exportGames(gameView -> writeLine(outputStream, gameMapper.gameViewToGameResponse(gameView)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<GameChangesResponse> getChanges(
+            @Min(0) @RequestParam(defaultValue = "0") long since,
+            @Min(1) @Max(MAX_PAGE_SIZE) @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        var page = gameService.getChanges(since, limit);
+        var changes = page.changes()
                 .stream()
-                .map(gameMapper::gameToGameResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(gameList);
+                .map(gameMapper::gameDeltaToGameDeltaResponse)
+                .toList();
+        return ResponseEntity.ok(new GameChangesResponse(changes, page.lastSequence(), page.hasMore()));
+    }
+
+    @GetMapping(path = "/stream", produces = TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return changeFeed.subscribe();
     }
 
     @GetMapping("/{gameName}")
-    public ResponseEntity<GameResponse> getGame(@NotBlank @PathVariable String gameName) {
-        var game = gameMapper.gameToGameResponse(gameService.getGame(gameName));
-        return ResponseEntity.ok(game);
+    public ResponseEntity<byte[]> getGame(@NotBlank @PathVariable String gameName, WebRequest webRequest) {
+        var format = PayloadFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        var response = responseCache.get(catalogVersion.current(), "game/" + gameName + "?format=" + format, () -> {
+            var gameView = gameService.getGameView(gameName);
+            return EncodedResponse.of(format.tag(eTag(gameView.id(), gameView.version())), null,
+                    payloadEncoder.encode(format, gameMapper.gameViewToGameResponse(gameView)));
+        });
+        var gzipped = acceptsGzip(webRequest);
+        if (webRequest.checkNotModified(response.eTag(gzipped))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.eTag(gzipped)).build();
+        }
+
+        return encodedResponse(response, format, gzipped);
     }
 
     @PostMapping
@@ -58,18 +169,63 @@ public class GameController {
     }
 
     @PutMapping
-    @Retryable(retryFor = { StaleObjectStateException.class,
-            ObjectOptimisticLockingFailureException.class }, maxAttempts = 3, backoff = @Backoff(delay = 5000))
-    public ResponseEntity<GameResponse> updateGame(@Valid @RequestBody GameRequest gameRequest) {
-        var game = gameService.updateGame(gameRequest);
-        return ResponseEntity.ok(gameMapper.gameToGameResponse(game));
+    public CompletableFuture<ResponseEntity<GameResponse>> updateGame(@Valid @RequestBody GameRequest gameRequest) {
+        var update = updateCoalescer.isEnabled()
+                ? updateCoalescer.update(gameRequest)
+                : conflictRetrier.execute("update", () -> gameService.updateGame(gameRequest));
+        return update.thenApply(game -> ResponseEntity.ok(gameMapper.gameToGameResponse(game)));
     }
 
     @DeleteMapping("/{gameName}")
-    @Retryable(retryFor = { StaleObjectStateException.class,
-            ObjectOptimisticLockingFailureException.class }, maxAttempts = 3, backoff = @Backoff(delay = 5000))
-    public ResponseEntity<Void> deleteGame(@NotBlank @PathVariable String gameName) {
-        gameService.deleteGame(gameName);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteGame(@NotBlank @PathVariable String gameName) {
+        return conflictRetrier.execute("delete", () -> {
+            gameService.deleteGame(gameName);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    private static String eTag(Long id, Integer version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Replays a cached body; Spring copies the bytes to the servlet output stream as they are.
+     */
+    private static ResponseEntity<byte[]> encodedResponse(EncodedResponse response, PayloadFormat format,
+                                                          boolean gzipped) {
+        var builder = ResponseEntity.ok()
+                .eTag(response.eTag(gzipped))
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        if (response.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, response.nextCursor());
+        }
+        return builder.body(response.body(gzipped));
+    }
+
+    private static boolean acceptsGzip(WebRequest webRequest) {
+        var acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (var coding : acceptEncoding.split(",")) {
+            var parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private void writeLine(OutputStream outputStream, GameResponse gameResponse) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(gameResponse));
+            outputStream.write(NDJSON_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
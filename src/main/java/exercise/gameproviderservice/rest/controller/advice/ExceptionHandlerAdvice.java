@@ -1,22 +1,38 @@
 package exercise.gameproviderservice.rest.controller.advice;
 
+import exercise.gameproviderservice.domain.exception.ChangeFeedFullException;
 import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
 import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.domain.exception.InvalidCursorException;
+import exercise.gameproviderservice.domain.exception.InvalidFilterException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionHandlerAdvice {
 
+    static final String ERRORS_METRIC = "game.api.errors";
+
+    private final MeterRegistry meterRegistry;
+
     @ResponseBody
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(GameNotFoundException.class)
     ErrorResponse handle(GameNotFoundException exception) {
+        countError(exception);
         final var response = new ErrorResponse();
         response.add(new ErrorResponse.Error(exception.getMessage()));
         return response;
@@ -26,19 +42,87 @@ public class ExceptionHandlerAdvice {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(GameAlreadyExistsException.class)
     ErrorResponse handle(GameAlreadyExistsException exception) {
+        countError(exception);
+        final var response = new ErrorResponse();
+        response.add(new ErrorResponse.Error(exception.getMessage()));
+        return response;
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    ErrorResponse handle(OptimisticLockingFailureException exception) {
+        countError(exception);
+        final var response = new ErrorResponse();
+        response.add(new ErrorResponse.Error("The game was modified concurrently, please retry"));
+        return response;
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    ErrorResponse handle(InvalidCursorException exception) {
+        final var response = new ErrorResponse();
+        response.add(new ErrorResponse.Error(exception.getMessage()));
+        return response;
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidFilterException.class)
+    ErrorResponse handle(InvalidFilterException exception) {
+        final var response = new ErrorResponse();
+        response.add(new ErrorResponse.Error(exception.getMessage()));
+        return response;
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ChangeFeedFullException.class)
+    ErrorResponse handle(ChangeFeedFullException exception) {
         final var response = new ErrorResponse();
         response.add(new ErrorResponse.Error(exception.getMessage()));
         return response;
     }
 
+    @ResponseBody
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    @ExceptionHandler(ConstraintViolationException.class)
+    ErrorResponse handle(ConstraintViolationException exception) {
+
+        final ErrorResponse response = new ErrorResponse();
+
+        for (ConstraintViolation<?> violation : exception.getConstraintViolations()) {
+            var message = String.format("'%s' has an invalid value '%s'", violation.getPropertyPath(), violation.getMessage());
+            response.add(new ErrorResponse.Error(message));
+        }
+
+        return response;
+    }
+
     @ResponseBody
     @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     ErrorResponse handle(MethodArgumentNotValidException exception) {
+        return fieldErrors(exception.getBindingResult());
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    @ExceptionHandler(WebExchangeBindException.class)
+    ErrorResponse handle(WebExchangeBindException exception) {
+        return fieldErrors(exception.getBindingResult());
+    }
+
+    private void countError(Exception exception) {
+        meterRegistry.counter(ERRORS_METRIC, "exception", exception.getClass().getSimpleName()).increment();
+    }
+
+    private static ErrorResponse fieldErrors(BindingResult bindingResult) {
 
         final ErrorResponse response = new ErrorResponse();
 
-        for (FieldError fieldError : exception.getBindingResult().getFieldErrors()) {
+        for (FieldError fieldError : bindingResult.getFieldErrors()) {
             var message = String.format("'%s' has an invalid value '%s'", fieldError.getField(), fieldError.getDefaultMessage());
             response.add(new ErrorResponse.Error(message));
         }
@@ -0,0 +1,204 @@
+package exercise.gameproviderservice.rest.feed;
+
+import exercise.gameproviderservice.config.ChangeFeedProperties;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.exception.ChangeFeedFullException;
+import exercise.gameproviderservice.rest.payloads.GameChangeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed game changes out to Server-Sent Events subscribers.
+ * <p>
+ * The committing thread only enqueues each event, one per write however many games it touched, into each
+ * subscriber's bounded buffer; sending happens on the change feed executor, one drain at a time per subscriber. The
+ * executor hands every drain a thread of its own, up to {@code max-subscribers}, so a client whose socket stalled
+ * blocks nobody but itself. A subscriber whose buffer overflows is disconnected rather than allowed to grow, and has
+ * to reconnect and re-read the catalog; its own drain completes the stream once the blocked send returns.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+@Slf4j
+public class GameChangeFeed {
+
+    static final String SUBSCRIBERS_METRIC = "game.feed.subscribers";
+    static final String DISCONNECTED_METRIC = "game.feed.disconnected";
+
+    private final ChangeFeedProperties properties;
+    private final ExecutorService changeFeedExecutor;
+    private final Counter disconnected;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public GameChangeFeed(ChangeFeedProperties properties,
+                          ThreadFactory changeFeedThreadFactory,
+                          MeterRegistry meterRegistry) {
+        this(properties, newDrainExecutor(properties, changeFeedThreadFactory), meterRegistry);
+    }
+
+    GameChangeFeed(ChangeFeedProperties properties, ExecutorService changeFeedExecutor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.changeFeedExecutor = changeFeedExecutor;
+        this.disconnected = meterRegistry.counter(DISCONNECTED_METRIC);
+        meterRegistry.gaugeCollectionSize(SUBSCRIBERS_METRIC, Tags.empty(), subscribers);
+    }
+
+    /**
+     * Starts a thread per running drain rather than queueing drains behind each other, and lets idle threads go.
+     */
+    static ExecutorService newDrainExecutor(ChangeFeedProperties properties, ThreadFactory threadFactory) {
+        return new ThreadPoolExecutor(0, properties.maxSubscribers(), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                threadFactory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        changeFeedExecutor.shutdown();
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(properties.timeout() == null ? null : properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            throw new ChangeFeedFullException(properties.maxSubscribers());
+        }
+        var subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.bufferSize()));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(failure -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Refresh events were already pushed as the change they repeat.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        if (event.refresh()) {
+            return;
+        }
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final BlockingQueue<GameChangedEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<GameChangedEvent> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void offer(GameChangedEvent event) {
+            if (closed) {
+                return;
+            }
+            if (buffer.offer(event)) {
+                scheduleDrain();
+            } else {
+                disconnectSlow();
+            }
+        }
+
+        private synchronized void disconnectSlow() {
+            if (closed) {
+                return;
+            }
+            disconnected.increment();
+            log.warn("Disconnected a change feed subscriber lagging more than {} writes behind",
+                    properties.bufferSize());
+            close();
+        }
+
+        /**
+         * Completing the emitter waits for any send in progress, so it is left to the drain: the one in flight
+         * completes it once its send returns, or a new one does right away.
+         */
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                changeFeedExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                log.warn("No change feed thread left, closing the subscriber", e);
+                closed = true;
+                subscribers.remove(this);
+                draining.set(false);
+                complete();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                GameChangedEvent event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Change feed subscriber went away", e);
+                closed = true;
+                subscribers.remove(this);
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                complete();
+            } else if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(GameChangedEvent event) throws IOException {
+            for (var gameName : event.gameNames()) {
+                emitter.send(SseEmitter.event()
+                        .name(event.type().name())
+                        .data(new GameChangeResponse(event.type(), gameName), MediaType.APPLICATION_JSON));
+            }
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import exercise.gameproviderservice.domain.BatchItemStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse(String name, BatchItemStatus status, GameResponse game) {
+}
@@ -0,0 +1,10 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkDeleteRequest(@NotEmpty @Size(max = BulkUpdateRequest.MAX_NAMES) List<@NotBlank String> names) {
+}
@@ -0,0 +1,26 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Sets {@code dateOfCreation} and/or {@code active} on every named game; {@code null} values are left untouched,
+ * but at least one of them must be set.
+ */
+public record BulkUpdateRequest(@NotEmpty @Size(max = MAX_NAMES) List<@NotBlank String> names,
+                                Instant dateOfCreation,
+                                Boolean active) {
+    public static final int MAX_NAMES = 10_000;
+
+    @JsonIgnore
+    @AssertTrue(message = "dateOfCreation or active must be set")
+    public boolean isAnyValueSet() {
+        return dateOfCreation != null || active != null;
+    }
+}
@@ -0,0 +1,6 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import exercise.gameproviderservice.domain.GameChangeType;
+
+public record GameChangeResponse(GameChangeType type, String name) {
+}
@@ -0,0 +1,6 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import java.util.List;
+
+public record GameChangesResponse(List<GameDeltaResponse> changes, long lastSequence, boolean hasMore) {
+}
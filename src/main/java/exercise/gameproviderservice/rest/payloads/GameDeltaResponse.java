@@ -0,0 +1,9 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import exercise.gameproviderservice.domain.GameChangeType;
+
+import java.time.Instant;
+
+public record GameDeltaResponse(Long sequence, GameChangeType type, String name, Instant dateOfCreation,
+                                Boolean active) {
+}
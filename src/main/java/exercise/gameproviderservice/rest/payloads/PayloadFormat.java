@@ -0,0 +1,55 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Wire formats of game payloads. JSON is the default; Smile and CBOR are binary encodings of the same Jackson
+ * model, cheaper to produce and parse for service-to-service calls.
+ */
+public enum PayloadFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(MediaType.parseMediaType(PayloadFormat.SMILE_VALUE)),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+    private final MediaType mediaType;
+
+    PayloadFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Tags a strong entity tag with the format, so that each representation of a resource has its own.
+     */
+    public String tag(String eTag) {
+        return this == JSON ? eTag : eTag.substring(0, eTag.length() - 1) + "-" + name().toLowerCase() + "\"";
+    }
+
+    /**
+     * The format preferred by an {@code Accept} header, JSON when it has none or accepts anything.
+     */
+    public static PayloadFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        var accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (var mediaType : accepted) {
+            for (var format : values()) {
+                if (mediaType.getQualityValue() > 0 && mediaType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
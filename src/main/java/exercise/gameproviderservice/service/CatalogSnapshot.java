@@ -0,0 +1,80 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.SnapshotProperties;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameSnapshot;
+import exercise.gameproviderservice.repository.GameRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link GameSnapshot} when {@code game-provider.snapshot.enabled} is set.
+ * <p>
+ * Readers only dereference a volatile field. Each committed write reloads the games it changed with one query and
+ * swaps in a new snapshot; swaps are serialized by a lock, so a slower reload can never overwrite a newer one. The
+ * lock is not a monitor, so a virtual thread waiting for it or holding it across the query does not pin its carrier.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSnapshot {
+
+    private final GameRepository gameRepository;
+    private final GameChangeLog changeLog;
+    private final SnapshotProperties properties;
+
+    private final Lock swapLock = new ReentrantLock();
+
+    private volatile GameSnapshot snapshot = GameSnapshot.EMPTY;
+    private long loadedAtSequence;
+
+    /**
+     * Reads the change log sequence before the catalog, so that every change the snapshot may miss comes after it.
+     */
+    @PostConstruct
+    void load() {
+        if (!properties.enabled()) {
+            return;
+        }
+        loadedAtSequence = changeLog.lastSequence();
+        snapshot = GameSnapshot.of(gameRepository.findAllViews(Pageable.unpaged()));
+        log.info("Loaded catalog snapshot with {} games", snapshot.size());
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public GameSnapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * The change log sequence read just before the snapshot was loaded.
+     */
+    public long loadedAtSequence() {
+        return loadedAtSequence;
+    }
+
+    @Order(CatalogVersion.RELOAD_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        swapLock.lock();
+        try {
+            snapshot = snapshot.replace(event.gameNames(), gameRepository.findViewsByNameIn(event.gameNames()));
+        } finally {
+            swapLock.unlock();
+        }
+    }
+}
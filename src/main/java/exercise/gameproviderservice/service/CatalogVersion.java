@@ -0,0 +1,41 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catalog-wide change counter, bumped once a game write has been committed.
+ * <p>
+ * The counter is prefixed with a random epoch picked at startup, so a restarted node never reports a version
+ * that a client could have cached against different data.
+ * <p>
+ * A reader that sees the new version must also see the new data, or it would cache stale bytes under it. The
+ * listeners applying a committed change therefore run in a fixed order: in-memory copies of the catalog are
+ * reloaded first ({@link #RELOAD_ORDER}), then the version is bumped ({@link #BUMP_ORDER}), and only then are the
+ * caches keyed by version dropped ({@link #EVICT_ORDER}).
+ */
+@Component
+public class CatalogVersion {
+
+    public static final int RELOAD_ORDER = 100;
+    public static final int BUMP_ORDER = 200;
+    public static final int EVICT_ORDER = 300;
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong changes = new AtomicLong();
+
+    public String current() {
+        return epoch + "-" + changes.get();
+    }
+
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        changes.incrementAndGet();
+    }
+}
@@ -0,0 +1,142 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.ConflictRetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleObjectStateException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries writes that fail on an optimistic-locking conflict without blocking the calling thread.
+ * <p>
+ * The first attempt runs on the caller's thread. Retries wait out a jittered exponential backoff on a dedicated
+ * scheduler, which only times the delay and then hands the attempt to the {@code applicationTaskExecutor}, so request
+ * threads are released while a conflicting write waits and the blocking retry runs where MVC async work does, on
+ * virtual threads when they are enabled.
+ */
+@Component
+@Slf4j
+public class ConflictRetrier {
+
+    static final String RETRIES_METRIC = "game.conflict.retries";
+    static final String GIVE_UPS_METRIC = "game.conflict.giveups";
+
+    private final ConflictRetryProperties properties;
+    private final ScheduledExecutorService conflictRetryScheduler;
+    private final Executor taskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The scheduler is owned rather than injected: an {@code Executor} bean would make Spring Boot back off
+     * from its {@code applicationTaskExecutor}, which serves MVC async requests.
+     */
+    @Autowired
+    public ConflictRetrier(ConflictRetryProperties properties,
+                           ThreadFactory conflictRetryThreadFactory,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                           Executor taskExecutor,
+                           MeterRegistry meterRegistry) {
+        this(properties, Executors.newScheduledThreadPool(properties.schedulerThreads(), conflictRetryThreadFactory),
+                taskExecutor, meterRegistry);
+    }
+
+    ConflictRetrier(ConflictRetryProperties properties,
+                    ScheduledExecutorService conflictRetryScheduler,
+                    Executor taskExecutor,
+                    MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.conflictRetryScheduler = conflictRetryScheduler;
+        this.taskExecutor = taskExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        conflictRetryScheduler.shutdown();
+    }
+
+    public <T> CompletableFuture<T> execute(String operation, Supplier<T> action) {
+        var result = new CompletableFuture<T>();
+        attempt(operation, action, 1, result);
+        return result;
+    }
+
+    private <T> void attempt(String operation, Supplier<T> action, int attempt, CompletableFuture<T> result) {
+        try {
+            result.complete(action.get());
+        } catch (ObjectOptimisticLockingFailureException | StaleObjectStateException e) {
+            var backoff = onConflict(operation, attempt);
+            if (backoff < 0) {
+                result.completeExceptionally(e);
+                return;
+            }
+            retry(() -> attempt(operation, action, attempt + 1, result), backoff, result);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Either executor may reject once the context is closing; the caller's future fails then instead of hanging.
+     */
+    private void retry(Runnable nextAttempt, long backoff, CompletableFuture<?> result) {
+        try {
+            conflictRetryScheduler.schedule(() -> {
+                try {
+                    taskExecutor.execute(nextAttempt);
+                } catch (RejectedExecutionException e) {
+                    result.completeExceptionally(e);
+                }
+            }, backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Records the conflict that failed the {@code attempt}-th try of {@code operation} and returns the backoff
+     * before the next one, or {@code -1} once {@code maxAttempts} is spent.
+     */
+    long onConflict(String operation, int attempt) {
+        if (attempt >= properties.maxAttempts()) {
+            log.warn("Giving up {} after {} conflicting attempts", operation, attempt);
+            counter(GIVE_UPS_METRIC, operation).increment();
+            return -1;
+        }
+        var backoff = backoffMillis(attempt);
+        log.info("Conflict on {} attempt {}, retrying in {} ms", operation, attempt, backoff);
+        counter(RETRIES_METRIC, operation).increment();
+        return backoff;
+    }
+
+    static boolean isConflict(Throwable failure) {
+        return failure instanceof OptimisticLockingFailureException || failure instanceof StaleObjectStateException;
+    }
+
+    long backoffMillis(int attempt) {
+        var exponential = properties.initialBackoff().toMillis() * Math.pow(properties.multiplier(), attempt - 1);
+        var capped = (long) Math.min(exponential, properties.maxBackoff().toMillis());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
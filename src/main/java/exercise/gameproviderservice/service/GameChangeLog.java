@@ -0,0 +1,68 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.GameChange;
+import exercise.gameproviderservice.domain.GameChangeSequence;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.repository.GameChangeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records every game write in the {@link GameChange} log, within the writing transaction.
+ * <p>
+ * Appending locks the sequence counter until commit, which serializes writers from that point on; callers append
+ * last, right before committing, to keep that window short.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameChangeLog {
+
+    private final GameChangeRepository changeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String node = UUID.randomUUID().toString();
+
+    @PostConstruct
+    void createSequence() {
+        try {
+            transactionTemplate.executeWithoutResult(transaction ->
+                    changeRepository.createSequence(GameChangeSequence.ID));
+        } catch (DataIntegrityViolationException e) {
+            // another node created it first
+        }
+    }
+
+    /**
+     * Identifies this node in the {@link GameChange#getOrigin() origin} of the changes it appends.
+     */
+    public String node() {
+        return node;
+    }
+
+    public long lastSequence() {
+        return changeRepository.findLastSequence(GameChangeSequence.ID);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(GameChangeType changeType, Collection<String> gameNames) {
+        if (gameNames.isEmpty()) {
+            return;
+        }
+
+        changeRepository.incrementSequence(GameChangeSequence.ID, gameNames.size());
+        var sequence = new AtomicLong(changeRepository.findLastSequence(GameChangeSequence.ID) - gameNames.size());
+        changeRepository.deleteAllByGameNameIn(gameNames);
+        changeRepository.saveAll(gameNames.stream()
+                .map(gameName -> new GameChange(sequence.incrementAndGet(), changeType, gameName, node))
+                .toList());
+    }
+}
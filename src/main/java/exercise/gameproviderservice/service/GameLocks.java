@@ -0,0 +1,61 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.GameLockProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks keyed by game name, so that writes of the same game on this node run one after the other instead
+ * of failing on {@code @Version}. Distinct names may share a stripe; the stripe count bounds memory, not
+ * correctness.
+ * <p>
+ * Only meaningful with a single writer node: optimistic versioning stays in place for everything else.
+ */
+@Component
+public class GameLocks {
+
+    static final String CONTENDED_METRIC = "game.lock.contended";
+    static final String WAIT_METRIC = "game.lock.wait";
+
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+    private final Counter contended;
+    private final Timer wait;
+
+    public GameLocks(GameLockProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.stripes = new ReentrantLock[enabled ? properties.stripes() : 0];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.contended = meterRegistry.counter(CONTENDED_METRIC);
+        this.wait = meterRegistry.timer(WAIT_METRIC);
+    }
+
+    public <T> T withLock(String gameName, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        var lock = stripe(gameName);
+        if (!lock.tryLock()) {
+            contended.increment();
+            wait.record(lock::lock);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripe(String gameName) {
+        var hash = gameName.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+}
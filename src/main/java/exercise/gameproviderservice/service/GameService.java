@@ -1,38 +1,138 @@
 package exercise.gameproviderservice.service;
 
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.BatchItemStatus;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameDeltaPage;
+import exercise.gameproviderservice.domain.GameFilter;
 import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GamePage;
+import exercise.gameproviderservice.domain.GameView;
 import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
 import exercise.gameproviderservice.domain.exception.GameNotFoundException;
 import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.repository.GameChangeRepository;
 import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(GameService.TIMER)
 public class GameService {
     final GameRepository gameRepository;
+    final GameChangeRepository gameChangeRepository;
     final GameMapper mapper;
+    final TransactionTemplate transactionTemplate;
+    final ApplicationEventPublisher eventPublisher;
+    final CatalogSnapshot catalogSnapshot;
+    final GameLocks gameLocks;
+    final GameChangeLog changeLog;
 
     static int i = 1;
 
+    static final int BULK_CHUNK_SIZE = 500;
+    static final String TIMER = "game.service";
+
     public GameModel saveGame(GameRequest gameRequest) {
         log.info("Save the game {}", gameRequest.name());
 
-        gameRepository.findByName(gameRequest.name()).ifPresent(game -> {
-            throw new GameAlreadyExistsException(gameRequest.name());
-        });
-
         GameModel gameModel = mapper.gameRequestToGame(gameRequest);
 
-        return gameRepository.save(gameModel);
+        try {
+            return transactionTemplate.execute(transaction -> {
+                var savedGameModel = gameRepository.saveAndFlush(gameModel);
+                publishChange(GameChangeType.CREATED, savedGameModel.getName());
+                return savedGameModel;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueNameViolation(e)) {
+                throw new GameAlreadyExistsException(gameRequest.name());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts all new games in a single JDBC-batched transaction. Names that already exist, or that appear
+     * more than once in the batch, are reported as {@link BatchItemStatus#ALREADY_EXISTS} instead of failing
+     * the whole batch. Should a concurrent insert win the race, the batch falls back to one insert per game.
+     */
+    public List<BatchItemResult> saveGames(List<GameRequest> gameRequests) {
+        log.info("Save {} games in batch", gameRequests.size());
+
+        var existingNames = gameRepository.findNamesIn(gameRequests.stream().map(GameRequest::name).toList());
+        var batchNames = new HashSet<String>();
+        var results = new BatchItemResult[gameRequests.size()];
+        var newGames = new LinkedHashMap<Integer, GameModel>();
+
+        for (int i = 0; i < gameRequests.size(); i++) {
+            var gameRequest = gameRequests.get(i);
+            if (existingNames.contains(gameRequest.name()) || !batchNames.add(gameRequest.name())) {
+                results[i] = BatchItemResult.of(gameRequest.name(), BatchItemStatus.ALREADY_EXISTS);
+            } else {
+                newGames.put(i, mapper.gameRequestToGame(gameRequest));
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(transaction -> {
+                gameRepository.saveAllAndFlush(List.copyOf(newGames.values()));
+                publishChanges(GameChangeType.CREATED, newGames.values().stream().map(GameModel::getName).toList());
+            });
+            newGames.forEach((i, gameModel) ->
+                    results[i] = new BatchItemResult(gameModel.getName(), BatchItemStatus.CREATED, gameModel));
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueNameViolation(e)) {
+                throw e;
+            }
+            log.warn("Batch insert lost a race on a game name, inserting {} games one by one", newGames.size());
+            newGames.keySet().forEach(i -> results[i] = saveGameInBatch(gameRequests.get(i)));
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * Applies the update to every named game with one set-based statement per chunk of names,
+     * each chunk in its own transaction.
+     */
+    public List<BatchItemResult> updateGames(BulkUpdateRequest bulkUpdateRequest) {
+        log.info("Bulk update {} games with values: {}", bulkUpdateRequest.names().size(), bulkUpdateRequest);
+
+        return mutateInChunks(bulkUpdateRequest.names(), GameChangeType.UPDATED, existingNames ->
+                gameRepository.updateAllByNameIn(existingNames, bulkUpdateRequest.active(), bulkUpdateRequest.dateOfCreation()));
+    }
+
+    public List<BatchItemResult> deleteGames(List<String> gameNames) {
+        log.info("Bulk delete {} games", gameNames.size());
+
+        return mutateInChunks(gameNames, GameChangeType.DELETED, gameRepository::deleteAllByNameIn);
     }
 
     @Transactional(readOnly = true)
@@ -41,29 +141,175 @@ public class GameService {
         return gameRepository.findByName(gameName).orElseThrow(() -> new GameNotFoundException(gameName));
     }
 
-    public List<GameModel> getGames(){
-        return gameRepository.findAll();
+    /**
+     * Read path of {@code GET /v1/games/{name}}: the catalog snapshot when enabled, otherwise a cached
+     * projection. Not transactional itself, so snapshot reads never check out a connection.
+     */
+    public GameView getGameView(String gameName) {
+        log.info("Get the game view with name: {}", gameName);
+
+        var gameView = catalogSnapshot.isEnabled()
+                ? catalogSnapshot.current().find(gameName)
+                : gameRepository.findViewByName(gameName);
+        return gameView.orElseThrow(() -> new GameNotFoundException(gameName));
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * One page of games ordered by name and id, restricted by {@code filter}. Unfiltered pages use static keyset
+     * queries; filtered ones a query carrying only the filter's predicates, so that the name index or one of the
+     * {@code (active, date_of_creation, id)} and {@code (date_of_creation, id)} indexes narrows the scan. Filters
+     * without a name prefix {@linkplain GameFilter#ordersByCreation() order by creation} instead, along the date
+     * index. In snapshot mode the sorted snapshot is scanned.
+     */
+    public GamePage<GameView> getGames(int limit, GameCursor after, GameFilter filter) {
+        log.info("Get {} games after cursor: {} with filter: {}", limit, after, filter);
+        filter.checkCursor(after);
+
+        if (catalogSnapshot.isEnabled()) {
+            var snapshot = catalogSnapshot.current();
+            return filter.isEmpty() ? snapshot.page(limit, after) : snapshot.page(limit, after, filter);
+        }
+
+        List<GameView> games;
+        if (filter.isEmpty()) {
+            var pageable = PageRequest.of(0, limit + 1);
+            games = after == null
+                    ? gameRepository.findAllViews(pageable)
+                    : gameRepository.findAllViewsAfter(after.name(), after.id(), pageable);
+        } else {
+            games = gameRepository.findViews(filter, after, limit + 1);
+        }
+
+        if (games.size() <= limit) {
+            return new GamePage<>(games, null);
+        }
+
+        var page = games.subList(0, limit);
+        var last = page.get(limit - 1);
+        return new GamePage<>(page, filter.ordersByCreation() ? GameCursor.byCreation(last) : GameCursor.of(last));
+    }
+
+    /**
+     * Changes committed after {@code since}, in commit order: one entry per changed game, carrying its current
+     * state, or a tombstone once deleted. A client already in sync costs one empty range scan of the log.
+     */
+    @Transactional(readOnly = true)
+    public GameDeltaPage getChanges(long since, int limit) {
+        log.info("Get {} changes since: {}", limit, since);
+
+        var changes = gameChangeRepository.findDeltasAfter(since, PageRequest.of(0, limit + 1));
+        return changes.size() <= limit
+                ? new GameDeltaPage(changes, since, false)
+                : new GameDeltaPage(changes.subList(0, limit), since, true);
+    }
+
+    /**
+     * Streams the whole catalog to {@code consumer} row by row. Rows are projected, so the persistence
+     * context stays empty regardless of the catalog size.
+     */
+    public void exportGames(Consumer<GameView> consumer) {
+        log.info("Export all games");
+
+        if (catalogSnapshot.isEnabled()) {
+            catalogSnapshot.current().stream().forEach(consumer);
+            return;
+        }
+
+        var readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.executeWithoutResult(transaction -> {
+            try (Stream<GameView> games = gameRepository.streamAllViews()) {
+                games.forEach(consumer);
+            }
+        });
+    }
+
+    /**
+     * Runs in its own transaction, started once the game's {@link GameLocks lock} is held.
+     */
     public GameModel updateGame(GameRequest gameRequest) {
         log.info("Update the game with name: {} and values: {}", gameRequest.name(), gameRequest);
 
-        GameModel dbGameModel = getGame(gameRequest.name());
+        return gameLocks.withLock(gameRequest.name(), () -> inNewTransaction(transaction -> {
+            GameModel dbGameModel = getGame(gameRequest.name());
 
-        dbGameModel.setName(gameRequest.name());
-        dbGameModel.setDateOfCreation(gameRequest.dateOfCreation());
-        dbGameModel.setActive(gameRequest.active());
+            dbGameModel.setName(gameRequest.name());
+            dbGameModel.setDateOfCreation(gameRequest.dateOfCreation());
+            dbGameModel.setActive(gameRequest.active());
 
-        return gameRepository.saveAndFlush(dbGameModel);
+            var savedGameModel = gameRepository.saveAndFlush(dbGameModel);
+            publishChange(GameChangeType.UPDATED, savedGameModel.getName());
+            return savedGameModel;
+        }));
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Runs in its own transaction, started once the game's {@link GameLocks lock} is held.
+     */
     public void deleteGame(String gameName) {
         log.info("Delete the game with name: {}", gameName);
 
-        GameModel gameModel = getGame(gameName);
+        gameLocks.withLock(gameName, () -> inNewTransaction(transaction -> {
+            GameModel gameModel = getGame(gameName);
+
+            gameRepository.deleteById(gameModel.getId());
+            publishChange(GameChangeType.DELETED, gameName);
+            return null;
+        }));
+    }
+
+    private List<BatchItemResult> mutateInChunks(List<String> gameNames, GameChangeType changeType,
+                                                 Consumer<Set<String>> mutation) {
+        var status = changeType == GameChangeType.DELETED ? BatchItemStatus.DELETED : BatchItemStatus.UPDATED;
+        var distinctNames = List.copyOf(new LinkedHashSet<>(gameNames));
+        var results = new ArrayList<BatchItemResult>(distinctNames.size());
+
+        for (int from = 0; from < distinctNames.size(); from += BULK_CHUNK_SIZE) {
+            var chunk = distinctNames.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctNames.size()));
+            var mutatedNames = transactionTemplate.execute(transaction -> {
+                var existingNames = gameRepository.findNamesIn(chunk);
+                if (!existingNames.isEmpty()) {
+                    mutation.accept(existingNames);
+                    publishChanges(changeType, existingNames);
+                }
+                return existingNames;
+            });
+            chunk.forEach(name -> results.add(
+                    BatchItemResult.of(name, mutatedNames.contains(name) ? status : BatchItemStatus.NOT_FOUND)));
+        }
+
+        return results;
+    }
+
+    private <T> T inNewTransaction(TransactionCallback<T> action) {
+        var newTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return newTransaction.execute(action);
+    }
+
+    private void publishChange(GameChangeType changeType, String gameName) {
+        publishChanges(changeType, List.of(gameName));
+    }
+
+    /**
+     * Appends to the change log, which has to stay the last statement of the writing transaction.
+     */
+    private void publishChanges(GameChangeType changeType, Collection<String> gameNames) {
+        changeLog.append(changeType, gameNames);
+        eventPublisher.publishEvent(new GameChangedEvent(changeType, List.copyOf(gameNames)));
+    }
+
+    private BatchItemResult saveGameInBatch(GameRequest gameRequest) {
+        try {
+            return new BatchItemResult(gameRequest.name(), BatchItemStatus.CREATED, saveGame(gameRequest));
+        } catch (GameAlreadyExistsException e) {
+            return BatchItemResult.of(gameRequest.name(), BatchItemStatus.ALREADY_EXISTS);
+        }
+    }
 
-        gameRepository.deleteById(gameModel.getId());
+    private static boolean isUniqueNameViolation(DataIntegrityViolationException exception) {
+        return exception.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(GameModel.UNIQUE_NAME_INDEX);
     }
 }
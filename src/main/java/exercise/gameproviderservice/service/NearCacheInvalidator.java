@@ -0,0 +1,183 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.NearCacheProperties;
+import exercise.gameproviderservice.domain.GameChange;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.repository.GameChangeRepository;
+import exercise.gameproviderservice.repository.GameRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps this node's caches coherent with writes of the other nodes sharing the database, when
+ * {@code game-provider.near-cache.enabled} is set.
+ * <p>
+ * The {@link GameChange} log is tailed by sequence every poll interval. Games changed by another node are evicted
+ * from the second-level cache behind {@link GameService#getGame(String)}, and republished as
+ * {@link GameChangedEvent}s so that every other local cache reacts as it does to a local write. Both are repeated on
+ * the next poll, the events {@linkplain GameChangedEvent#refresh() as refreshes} that only local caches act on, in
+ * case a read that started before the remote commit put the old state back in the meantime, be it into the
+ * second-level and query caches or into a snapshot or response cache reloaded from them; staleness is therefore
+ * bounded by about two poll intervals.
+ */
+@Component
+@Slf4j
+public class NearCacheInvalidator {
+
+    static final String INVALIDATIONS_METRIC = "game.near-cache.invalidations";
+
+    private final NearCacheProperties properties;
+    private final GameChangeRepository changeRepository;
+    private final GameRepository gameRepository;
+    private final GameChangeLog changeLog;
+    private final CatalogSnapshot catalogSnapshot;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService nearCacheScheduler;
+    private final Counter invalidations;
+
+    private long lastSequence;
+    private Set<Long> evictAgainIds = Set.of();
+    private List<GameChange> evictAgainChanges = List.of();
+
+    @Autowired
+    public NearCacheInvalidator(NearCacheProperties properties,
+                                GameChangeRepository changeRepository,
+                                GameRepository gameRepository,
+                                GameChangeLog changeLog,
+                                CatalogSnapshot catalogSnapshot,
+                                EntityManagerFactory entityManagerFactory,
+                                ApplicationEventPublisher eventPublisher,
+                                ThreadFactory nearCacheThreadFactory,
+                                MeterRegistry meterRegistry) {
+        this(properties, changeRepository, gameRepository, changeLog, catalogSnapshot, entityManagerFactory,
+                eventPublisher, Executors.newSingleThreadScheduledExecutor(nearCacheThreadFactory), meterRegistry);
+    }
+
+    NearCacheInvalidator(NearCacheProperties properties,
+                         GameChangeRepository changeRepository,
+                         GameRepository gameRepository,
+                         GameChangeLog changeLog,
+                         CatalogSnapshot catalogSnapshot,
+                         EntityManagerFactory entityManagerFactory,
+                         ApplicationEventPublisher eventPublisher,
+                         ScheduledExecutorService nearCacheScheduler,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.changeRepository = changeRepository;
+        this.gameRepository = gameRepository;
+        this.changeLog = changeLog;
+        this.catalogSnapshot = catalogSnapshot;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.nearCacheScheduler = nearCacheScheduler;
+        this.invalidations = meterRegistry.counter(INVALIDATIONS_METRIC);
+    }
+
+    /**
+     * Tails from where the snapshot was loaded, if there is one, so that no remote change committed while the
+     * context starts is skipped. Depending on the {@link CatalogSnapshot} ensures it was loaded by then.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        lastSequence = catalogSnapshot.isEnabled()
+                ? catalogSnapshot.loadedAtSequence()
+                : changeLog.lastSequence();
+        var interval = properties.pollInterval().toNanos();
+        nearCacheScheduler.scheduleWithFixedDelay(this::pollQuietly, interval, interval, TimeUnit.NANOSECONDS);
+        log.info("Tailing the change log every {} from sequence {}", properties.pollInterval(), lastSequence);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        nearCacheScheduler.shutdownNow();
+    }
+
+    /**
+     * Applies every change committed since the previous poll. Only ever runs on the scheduler thread.
+     */
+    void poll() {
+        var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (!evictAgainChanges.isEmpty()) {
+            evictAgainIds.forEach(id -> cache.evictEntityData(GameModel.class, id));
+            cache.evictQueryRegion(GameModel.BY_NAME_CACHE_REGION);
+            publish(evictAgainChanges, true);
+        }
+
+        List<GameChange> changes;
+        var remoteChanged = new ArrayList<GameChange>();
+        var evicted = new HashSet<Long>();
+        do {
+            changes = changeRepository.findChangesAfter(lastSequence, PageRequest.of(0, properties.batchSize()));
+            var remoteChanges = changes.stream()
+                    .filter(change -> !change.getOrigin().equals(changeLog.node()))
+                    .toList();
+            if (!remoteChanges.isEmpty()) {
+                remoteChanged.addAll(remoteChanges);
+                evicted.addAll(evict(remoteChanges));
+            }
+            if (!changes.isEmpty()) {
+                lastSequence = changes.get(changes.size() - 1).getSequence();
+            }
+        } while (changes.size() == properties.batchSize());
+        evictAgainIds = evicted;
+        evictAgainChanges = remoteChanged;
+    }
+
+    private Set<Long> evict(List<GameChange> remoteChanges) {
+        var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        var ids = gameRepository.findIdsByNameIn(remoteChanges.stream().map(GameChange::getGameName).toList());
+        ids.forEach(id -> cache.evictEntityData(GameModel.class, id));
+        cache.evictQueryRegion(GameModel.BY_NAME_CACHE_REGION);
+
+        invalidations.increment(remoteChanges.size());
+        publish(remoteChanges, false);
+        return ids;
+    }
+
+    /**
+     * Republishes the changes in log order, as one event per run of changes of the same type, the way the
+     * writing node published them.
+     */
+    private void publish(List<GameChange> changes, boolean refresh) {
+        var from = 0;
+        for (int i = 1; i <= changes.size(); i++) {
+            if (i == changes.size() || changes.get(i).getType() != changes.get(from).getType()) {
+                var type = changes.get(from).getType();
+                var gameNames = changes.subList(from, i).stream().map(GameChange::getGameName).toList();
+                eventPublisher.publishEvent(new GameChangedEvent(type, gameNames, refresh));
+                from = i;
+            }
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Polling the change log failed, retrying in {}", properties.pollInterval(), e);
+        }
+    }
+}
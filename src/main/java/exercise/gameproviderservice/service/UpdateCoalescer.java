@@ -0,0 +1,159 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.UpdateCoalescingProperties;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Merges concurrent updates of the same game into one write, when {@code game-provider.update-coalescing.enabled}
+ * is set.
+ * <p>
+ * At most one update per game name is in flight. Updates arriving meanwhile are buffered, last writer wins, and
+ * applied together by a single {@link GameService#updateGame(GameRequest)} once the in-flight one completes; every
+ * buffered caller receives the game that write produced. A lone update runs straight away on the caller's thread;
+ * a batch that builds up behind it is written on the bounded {@code applicationTaskExecutor}, or on virtual threads
+ * when they are enabled.
+ */
+@Component
+@Slf4j
+public class UpdateCoalescer {
+
+    static final String COALESCED_METRIC = "game.update.coalesced";
+
+    private final UpdateCoalescingProperties properties;
+    private final GameService gameService;
+    private final ConflictRetrier conflictRetrier;
+    private final Executor taskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, PendingUpdates> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UpdateCoalescer(UpdateCoalescingProperties properties,
+                           GameService gameService,
+                           ConflictRetrier conflictRetrier,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                           Executor taskExecutor,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.gameService = gameService;
+        this.conflictRetrier = conflictRetrier;
+        this.taskExecutor = taskExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public CompletableFuture<GameModel> update(GameRequest gameRequest) {
+        var result = new CompletableFuture<GameModel>();
+        var updates = pending.compute(gameRequest.name(), (name, buffered) -> {
+            var next = buffered == null ? new PendingUpdates() : buffered;
+            next.latest = gameRequest;
+            next.waiters.add(result);
+            return next;
+        });
+
+        if (updates.claim()) {
+            apply(gameRequest.name());
+        }
+        return result;
+    }
+
+    private void apply(String gameName) {
+        var batch = new ArrayList<CompletableFuture<GameModel>>();
+        var request = new GameRequest[1];
+        pending.computeIfPresent(gameName, (name, updates) -> {
+            request[0] = updates.latest;
+            batch.addAll(updates.waiters);
+            updates.waiters.clear();
+            return updates;
+        });
+
+        if (batch.size() > 1) {
+            log.info("Coalesced {} updates of the game {}", batch.size(), gameName);
+            meterRegistry.counter(COALESCED_METRIC).increment(batch.size() - 1);
+        }
+
+        write(request[0])
+                .whenComplete((game, failure) -> {
+                    batch.forEach(waiter -> {
+                        if (failure == null) {
+                            waiter.complete(game);
+                        } else {
+                            waiter.completeExceptionally(failure);
+                        }
+                    });
+                    releaseOrContinue(gameName);
+                });
+    }
+
+    /**
+     * A write that cannot even be started, such as a retry the scheduler rejects, fails its batch like any other,
+     * so that the game is released for the updates that follow.
+     */
+    private CompletableFuture<GameModel> write(GameRequest request) {
+        try {
+            return conflictRetrier.execute("update", () -> gameService.updateGame(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void releaseOrContinue(String gameName) {
+        var remaining = pending.computeIfPresent(gameName, (name, updates) -> updates.waiters.isEmpty() ? null : updates);
+        if (remaining == null) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> apply(gameName));
+        } catch (RejectedExecutionException e) {
+            failPending(gameName, e);
+        }
+    }
+
+    /**
+     * Fails the updates buffered behind a batch that cannot be continued, such as once the context is closing, and
+     * releases the game.
+     */
+    private void failPending(String gameName, Throwable failure) {
+        var waiters = new ArrayList<CompletableFuture<GameModel>>();
+        pending.computeIfPresent(gameName, (name, updates) -> {
+            waiters.addAll(updates.waiters);
+            return null;
+        });
+        log.warn("Failed {} buffered updates of the game {}", waiters.size(), gameName, failure);
+        waiters.forEach(waiter -> waiter.completeExceptionally(failure));
+    }
+
+    /**
+     * Updates buffered for one game name, mutated only inside {@link ConcurrentHashMap#compute} for that name.
+     */
+    private static final class PendingUpdates {
+        private GameRequest latest;
+        private final List<CompletableFuture<GameModel>> waiters = new ArrayList<>();
+        private boolean inFlight;
+
+        private synchronized boolean claim() {
+            if (inFlight) {
+                return false;
+            }
+            inFlight = true;
+            return true;
+        }
+    }
+}
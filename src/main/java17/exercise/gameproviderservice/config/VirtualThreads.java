@@ -0,0 +1,35 @@
+package exercise.gameproviderservice.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Stand-in for the virtual-thread API in the Java 17 build, which has none. The {@code java21} Maven profile,
+ * active on JDK 21+, compiles the real one from {@code src/main/java21}.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return false;
+    }
+
+    public static void requireSupported() {
+        throw unsupported();
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor() {
+        throw unsupported();
+    }
+
+    public static ThreadFactory threadFactory(String prefix) {
+        throw unsupported();
+    }
+
+    private static IllegalStateException unsupported() {
+        return new IllegalStateException(
+                "Virtual threads require the Java 21 build, this one targets Java 17 and runs on " + Runtime.version());
+    }
+}
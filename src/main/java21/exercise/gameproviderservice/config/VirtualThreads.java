@@ -0,0 +1,29 @@
+package exercise.gameproviderservice.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual-thread API of the Java 21 build. The Java 17 build compiles a stub reporting the mode as unsupported.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return true;
+    }
+
+    public static void requireSupported() {
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public static ThreadFactory threadFactory(String prefix) {
+        return Thread.ofVirtual().name(prefix, 0).factory();
+    }
+}
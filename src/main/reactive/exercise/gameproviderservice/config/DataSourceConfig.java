@@ -0,0 +1,36 @@
+package exercise.gameproviderservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import exercise.gameproviderservice.repository.DurableStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Keeps the JDBC stack alongside R2DBC. Spring Boot backs off from the JDBC {@code DataSource} as soon as an
+ * R2DBC {@code ConnectionFactory} exists, but JPA still owns the schema and serves the servlet API, so both are
+ * declared here against the same H2 database. The JPA transaction manager is primary so that {@code @Transactional}
+ * keeps resolving to it next to the R2DBC one. Like Boot's own pool, it depends on the {@link DurableStore}
+ * through {@link DurableStoreConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,32 @@
+package exercise.gameproviderservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * R2DBC view of the {@link GameModel} table, used by the reactive stack. The schema, the id sequence and the
+ * unique name index are owned by the JPA mapping.
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+@Table(GameRow.TABLE)
+public class GameRow {
+    public static final String TABLE = "game_model";
+
+    @Id
+    private Long id;
+
+    private String name;
+    private Instant dateOfCreation;
+    private Boolean active;
+
+    @Version
+    private Integer version;
+}
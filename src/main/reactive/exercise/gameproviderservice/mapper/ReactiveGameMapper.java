@@ -0,0 +1,25 @@
+package exercise.gameproviderservice.mapper;
+
+import exercise.gameproviderservice.domain.GameRow;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.rest.payloads.GameResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import static org.mapstruct.MappingConstants.ComponentModel.SPRING;
+
+@Mapper(componentModel = SPRING)
+public interface ReactiveGameMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "dateOfCreation", source = "dateOfCreation")
+    @Mapping(target = "active", source = "active")
+    @Mapping(target = "version", ignore = true)
+    GameRow gameRequestToGameRow(GameRequest gameRequest);
+
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "dateOfCreation", source = "dateOfCreation")
+    @Mapping(target = "active", source = "active")
+    GameResponse gameRowToGameResponse(GameRow gameRow);
+}
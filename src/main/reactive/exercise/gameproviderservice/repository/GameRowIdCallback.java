@@ -0,0 +1,38 @@
+package exercise.gameproviderservice.repository;
+
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GameRow;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Assigns ids to new {@link GameRow}s from the sequence behind {@link GameModel}. Hibernate's pooled optimizer
+ * treats each value it draws as the upper end of a block of 50, so values drawn here fall outside the JPA blocks.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameRowIdCallback implements BeforeConvertCallback<GameRow> {
+
+    private static final String NEXT_ID_QUERY = "select next value for " + GameModel.ID_SEQUENCE;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Publisher<GameRow> onBeforeConvert(GameRow gameRow, SqlIdentifier table) {
+        if (gameRow.getId() != null) {
+            return Mono.just(gameRow);
+        }
+        return databaseClient.sql(NEXT_ID_QUERY)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(id -> {
+                    gameRow.setId(id);
+                    return gameRow;
+                });
+    }
+}
@@ -0,0 +1,25 @@
+package exercise.gameproviderservice.repository;
+
+import exercise.gameproviderservice.domain.GameRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveGameRepository extends R2dbcRepository<GameRow, Long> {
+    Mono<GameRow> findByName(String name);
+
+    Flux<GameRow> findAllByOrderByNameAscIdAsc(Pageable pageable);
+
+    @Query("""
+            select * from game_model
+            where name > :name or (name = :name and id > :id)
+            order by name asc, id asc
+            limit :limit
+            """)
+    Flux<GameRow> findAllAfter(@Param("name") String name, @Param("id") Long id, @Param("limit") int limit);
+}
@@ -0,0 +1,84 @@
+package exercise.gameproviderservice.rest.controller;
+
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.mapper.ReactiveGameMapper;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.rest.payloads.GameResponse;
+import exercise.gameproviderservice.service.ReactiveConflictRetrier;
+import exercise.gameproviderservice.service.ReactiveGameService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static exercise.gameproviderservice.rest.controller.GameController.DEFAULT_PAGE_SIZE;
+import static exercise.gameproviderservice.rest.controller.GameController.MAX_PAGE_SIZE;
+import static exercise.gameproviderservice.rest.controller.GameController.NEXT_CURSOR_HEADER;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * The {@code /v1/games} API on WebFlux and R2DBC, served instead of {@link GameController} when the application
+ * runs with the {@code reactive} profile.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequestMapping(path = "/v1/games", produces = APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@Validated
+public class ReactiveGameController {
+
+    private final ReactiveGameService gameService;
+    private final ReactiveGameMapper gameMapper;
+    private final ReactiveConflictRetrier conflictRetrier;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<GameResponse>>> getGames(
+            @Min(1) @Max(MAX_PAGE_SIZE) @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        var cursor = after == null ? null : GameCursor.decode(after);
+        return gameService.getGames(limit, cursor)
+                .map(page -> {
+                    var response = ResponseEntity.ok();
+                    page.nextCursor().ifPresent(next -> response.header(NEXT_CURSOR_HEADER, next.encode()));
+                    return response.body(page.games().stream().map(gameMapper::gameRowToGameResponse).toList());
+                });
+    }
+
+    @GetMapping("/{gameName}")
+    public Mono<GameResponse> getGame(@NotBlank @PathVariable String gameName) {
+        return gameService.getGame(gameName).map(gameMapper::gameRowToGameResponse);
+    }
+
+    @PostMapping
+    public Mono<GameResponse> insertGame(@Valid @RequestBody GameRequest gameRequest) {
+        return gameService.saveGame(gameRequest).map(gameMapper::gameRowToGameResponse);
+    }
+
+    @PutMapping
+    public Mono<GameResponse> updateGame(@Valid @RequestBody GameRequest gameRequest) {
+        return conflictRetrier.retry("update", gameService.updateGame(gameRequest))
+                .map(gameMapper::gameRowToGameResponse);
+    }
+
+    @DeleteMapping("/{gameName}")
+    public Mono<ResponseEntity<Void>> deleteGame(@NotBlank @PathVariable String gameName) {
+        return conflictRetrier.retry("delete", gameService.deleteGame(gameName))
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,29 @@
+package exercise.gameproviderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Reactive counterpart of {@link ConflictRetrier#execute}: resubscribes to a write after the same jittered backoff,
+ * counted under the same metrics, without holding any thread while it waits.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveConflictRetrier {
+    private final ConflictRetrier conflictRetrier;
+
+    public <T> Mono<T> retry(String operation, Mono<T> action) {
+        return action.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            var failure = signal.failure();
+            if (!ConflictRetrier.isConflict(failure)) {
+                return Mono.error(failure);
+            }
+            var backoff = conflictRetrier.onConflict(operation, (int) signal.totalRetries() + 1);
+            return backoff < 0 ? Mono.error(failure) : Mono.delay(Duration.ofMillis(backoff));
+        })));
+    }
+}
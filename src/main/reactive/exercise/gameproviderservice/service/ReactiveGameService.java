@@ -0,0 +1,112 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GamePage;
+import exercise.gameproviderservice.domain.GameRow;
+import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.mapper.ReactiveGameMapper;
+import exercise.gameproviderservice.repository.ReactiveGameRepository;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link GameService} on R2DBC. Writes rely on the row version alone: a concurrent
+ * change fails the update or delete with an optimistic-locking exception, exactly as the JPA stack does.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveGameService {
+    private static final String CONSTRAINT_PREFIX = "violation: \"";
+    private static final String CONSTRAINT_SUFFIX = " ON ";
+
+    final ReactiveGameRepository gameRepository;
+    final ReactiveGameMapper mapper;
+    final ApplicationEventPublisher eventPublisher;
+
+    public Mono<GameRow> saveGame(GameRequest gameRequest) {
+        return Mono.defer(() -> {
+                    log.info("Save the game {}", gameRequest.name());
+                    return gameRepository.save(mapper.gameRequestToGameRow(gameRequest));
+                })
+                .onErrorMap(ReactiveGameService::isUniqueNameViolation,
+                        e -> new GameAlreadyExistsException(gameRequest.name()))
+                .doOnNext(saved -> publishChange(GameChangeType.CREATED, saved.getName()));
+    }
+
+    public Mono<GameRow> getGame(String gameName) {
+        return gameRepository.findByName(gameName)
+                .switchIfEmpty(Mono.error(() -> new GameNotFoundException(gameName)));
+    }
+
+    public Mono<GamePage<GameRow>> getGames(int limit, GameCursor after) {
+        var games = after == null
+                ? gameRepository.findAllByOrderByNameAscIdAsc(PageRequest.of(0, limit + 1))
+                : gameRepository.findAllAfter(after.name(), after.id(), limit + 1);
+
+        return games.collectList().map(page -> page.size() <= limit
+                ? new GamePage<>(page, null)
+                : new GamePage<>(page.subList(0, limit), cursorOf(page.get(limit - 1))));
+    }
+
+    public Mono<GameRow> updateGame(GameRequest gameRequest) {
+        return getGame(gameRequest.name())
+                .flatMap(gameRow -> {
+                    log.info("Update the game with name: {} and values: {}", gameRequest.name(), gameRequest);
+                    gameRow.setDateOfCreation(gameRequest.dateOfCreation());
+                    gameRow.setActive(gameRequest.active());
+                    return gameRepository.save(gameRow);
+                })
+                .doOnNext(saved -> publishChange(GameChangeType.UPDATED, saved.getName()));
+    }
+
+    public Mono<Void> deleteGame(String gameName) {
+        return getGame(gameName)
+                .flatMap(gameRow -> {
+                    log.info("Delete the game with name: {}", gameName);
+                    return gameRepository.delete(gameRow);
+                })
+                .doOnSuccess(done -> publishChange(GameChangeType.DELETED, gameName));
+    }
+
+    private void publishChange(GameChangeType changeType, String gameName) {
+        eventPublisher.publishEvent(new GameChangedEvent(changeType, gameName));
+    }
+
+    private static GameCursor cursorOf(GameRow gameRow) {
+        return new GameCursor(gameRow.getName(), gameRow.getId());
+    }
+
+    private static boolean isUniqueNameViolation(Throwable exception) {
+        return exception instanceof DataIntegrityViolationException
+                && exception.getCause() instanceof R2dbcDataIntegrityViolationException violation
+                && constraintName(violation) != null
+                && constraintName(violation).toLowerCase().contains(GameModel.UNIQUE_NAME_INDEX);
+    }
+
+    /**
+     * R2DBC reports no constraint name, so it is read from H2's message the way Hibernate's H2 dialect does:
+     * {@code Unique index or primary key violation: "PUBLIC.<index> ON PUBLIC.GAME_MODEL(NAME ...) ..."}.
+     */
+    private static String constraintName(R2dbcDataIntegrityViolationException violation) {
+        var message = violation.getMessage();
+        var start = message == null ? -1 : message.indexOf(CONSTRAINT_PREFIX);
+        if (start < 0) {
+            return null;
+        }
+        start += CONSTRAINT_PREFIX.length();
+        var end = message.indexOf(CONSTRAINT_SUFFIX, start);
+        return end < 0 ? null : message.substring(start, end);
+    }
+}
@@ -0,0 +1,61 @@
+package exercise.gameproviderservice;
+
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GamesProviderServiceChangeFeedITest {
+
+    private static final long AWAIT_MILLIS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameService gameService;
+
+    @Test
+    void streamChanges_committedWrites_arePushedInOrder() throws Exception {
+        var response = mockMvc.perform(get("/v1/games/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        var gameName = UUID.randomUUID().toString();
+
+        gameService.saveGame(new GameRequest(gameName, Instant.now(), false));
+        gameService.updateGame(new GameRequest(gameName, Instant.now(), true));
+        gameService.deleteGame(gameName);
+
+        var deleted = "event:DELETED\ndata:{\"type\":\"DELETED\",\"name\":\"" + gameName + "\"}";
+        var content = awaitContent(response, deleted);
+        assertThat(content)
+                .contains("event:CREATED\ndata:{\"type\":\"CREATED\",\"name\":\"" + gameName + "\"}")
+                .containsSubsequence("event:CREATED", "event:UPDATED", "event:DELETED");
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected)
+            throws UnsupportedEncodingException, InterruptedException {
+        var deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        var content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,61 @@
+package exercise.gameproviderservice;
+
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.rest.controller.GameController;
+import exercise.gameproviderservice.service.GameService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static exercise.gameproviderservice.fixtures.ConcurrentUpdates.updateConcurrently;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = "game-provider.update-coalescing.enabled=true")
+class GamesProviderServiceCoalescingITest {
+
+    private static final int CONCURRENT_UPDATES = 8;
+    private static final long AWAIT_SECONDS = 5;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameController gameController;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private GameService gameService;
+
+    @Test
+    void updateGame_concurrentUpdatesOfOneGame_areCoalescedWithoutConflicts() {
+        GameModel gameModel = gameRepository.save(createGame());
+        // the first write waits until every other update has been buffered behind it
+        var buffered = new CountDownLatch(CONCURRENT_UPDATES - 1);
+        var firstWrite = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (firstWrite.getAndSet(false)) {
+                buffered.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(gameService).updateGame(any());
+
+        updateConcurrently(gameController, gameModel.getName(), CONCURRENT_UPDATES, buffered::countDown);
+
+        var updatedGameModel = gameRepository.findById(gameModel.getId()).orElseThrow();
+        assertThat(updatedGameModel.getVersion()).isPositive().isLessThan(CONCURRENT_UPDATES);
+        assertThat(meterRegistry.get("game.update.coalesced").counter().count()).isPositive();
+        assertThat(meterRegistry.find("game.conflict.retries").counter()).isNull();
+    }
+}
@@ -50,7 +50,7 @@ public class GamesProviderServiceConcurrencyITest {
         final ExecutorService executor = Executors.newFixedThreadPool(dateOfCreationList.size());
 
         for (final Instant dateOfCreation : dateOfCreationList) {
-            executor.execute(() -> gameController.updateGame(new GameRequest(entity.getName(), dateOfCreation, true)));
+            executor.execute(() -> gameController.updateGame(new GameRequest(entity.getName(), dateOfCreation, true)).join());
         }
 
         executor.shutdown();
@@ -0,0 +1,73 @@
+package exercise.gameproviderservice;
+
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Restarts of a node running the {@code durable} profile against one store directory.
+ */
+class GamesProviderServiceDurableStoreITest {
+
+    @TempDir
+    Path storeDirectory;
+
+    @Test
+    void restart_afterCleanShutdown_keepsTheCatalog() {
+        var gameName = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        try (var node = startNode()) {
+            node.getBean(GameService.class).saveGame(new GameRequest(gameName, dateOfCreation, true));
+        }
+        assertThat(storeDirectory.resolve("clean-shutdown")).exists();
+
+        try (var node = startNode()) {
+            var game = node.getBean(GameService.class).getGame(gameName);
+
+            assertThat(game.getDateOfCreation()).isEqualTo(dateOfCreation);
+            assertThat(game.getActive()).isTrue();
+            assertThat(storeDirectory.resolve("clean-shutdown")).doesNotExist();
+        }
+    }
+
+    @Test
+    void start_appliesTheConfiguredStoreSettings() {
+        try (var node = startNode("--game-provider.durable-store.cache-size=8MB",
+                "--game-provider.durable-store.write-delay=100ms")) {
+            var jdbcTemplate = new JdbcTemplate(node.getBean(DataSource.class));
+
+            assertThat(setting(jdbcTemplate, "CACHE_SIZE")).isEqualTo("8192");
+            assertThat(setting(jdbcTemplate, "WRITE_DELAY")).isEqualTo("100");
+            assertThat(Files.exists(storeDirectory.resolve("games.mv.db"))).isTrue();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String... args) {
+        var settings = new String[args.length + 1];
+        settings[0] = "--game-provider.durable-store.directory=" + storeDirectory;
+        System.arraycopy(args, 0, settings, 1, args.length);
+        return new SpringApplicationBuilder(GameProviderServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("durable")
+                .run(settings);
+    }
+
+    private static String setting(JdbcTemplate jdbcTemplate, String name) {
+        return jdbcTemplate.queryForObject(
+                "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = ?", String.class, name);
+    }
+}
@@ -0,0 +1,39 @@
+package exercise.gameproviderservice;
+
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.rest.controller.GameController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static exercise.gameproviderservice.fixtures.ConcurrentUpdates.updateConcurrently;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "game-provider.game-locks.enabled=true")
+class GamesProviderServiceLockingITest {
+
+    private static final int CONCURRENT_UPDATES = 8;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameController gameController;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void updateGame_concurrentUpdatesOfOneGame_areSerializedWithoutConflicts() {
+        GameModel gameModel = gameRepository.save(createGame());
+
+        updateConcurrently(gameController, gameModel.getName(), CONCURRENT_UPDATES);
+
+        var updatedGameModel = gameRepository.findById(gameModel.getId()).orElseThrow();
+        assertThat(updatedGameModel.getVersion()).isEqualTo(CONCURRENT_UPDATES);
+        assertThat(meterRegistry.find("game.conflict.retries").counter()).isNull();
+    }
+}
@@ -0,0 +1,51 @@
+package exercise.gameproviderservice;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GamesProviderServiceMetricsITest {
+
+    private static final String GAMES_BASE_PATH = "/v1/games";
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void prometheusEndpoint_exposesRequestServiceRepositoryAndErrorMetrics() {
+        var body = """
+                {"name": "%s", "dateOfCreation": "%s", "active": true}""".formatted(UUID.randomUUID(), Instant.now());
+        given().basePath(GAMES_BASE_PATH).contentType(JSON).body(body).post().then().statusCode(200);
+        given().basePath(GAMES_BASE_PATH).contentType(JSON).body(body).post().then().statusCode(400);
+        given().basePath(GAMES_BASE_PATH + "/unknown-game").get().then().statusCode(404);
+
+        var actual = given().basePath(PROMETHEUS_PATH).get().then().statusCode(200).extract().body().asString();
+
+        assertThat(actual)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/v1/games/{gameName}\"")
+                .contains("game_service_seconds_bucket{")
+                .contains("method=\"saveGame\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .containsPattern("game_api_errors_total\\{.*exception=\"GameNotFoundException\".*} 1\\.0")
+                .containsPattern("game_api_errors_total\\{.*exception=\"GameAlreadyExistsException\".*} 1\\.0");
+    }
+}
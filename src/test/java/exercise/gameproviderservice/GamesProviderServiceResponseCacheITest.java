@@ -0,0 +1,102 @@
+package exercise.gameproviderservice;
+
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.CatalogVersion;
+import exercise.gameproviderservice.service.GameService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "game-provider.snapshot.enabled=true")
+@AutoConfigureMockMvc
+class GamesProviderServiceResponseCacheITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private AfterBumpProbe afterBumpProbe;
+
+    @AfterEach
+    void tearDown() {
+        afterBumpProbe.action.set(null);
+    }
+
+    @Test
+    void getGame_betweenTheVersionBumpAndTheCacheEviction_readsTheCommittedGame() throws Exception {
+        var gameName = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        gameService.saveGame(new GameRequest(gameName, dateOfCreation, true));
+        var before = getGame(gameName, true);
+        var duringCommit = new AtomicReference<MvcResult>();
+        afterBumpProbe.action.set(() -> duringCommit.set(getGame(gameName, false)));
+
+        gameService.updateGame(new GameRequest(gameName, dateOfCreation, false));
+
+        assertThat(duringCommit.get()).isNotNull();
+        var after = getGame(gameName, false);
+        assertThat(eTag(duringCommit.get())).isNotEqualTo(eTag(before)).isEqualTo(eTag(after));
+    }
+
+    private MvcResult getGame(String gameName, boolean active) {
+        try {
+            return mockMvc.perform(get("/v1/games/" + gameName))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active").value(active))
+                    .andReturn();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String eTag(MvcResult result) {
+        return result.getResponse().getHeader("ETag");
+    }
+
+    /**
+     * Runs a read at the point of a commit where the catalog version has just moved on, while the response cache
+     * still holds the entries of the previous one.
+     */
+    static class AfterBumpProbe {
+        private final AtomicReference<Runnable> action = new AtomicReference<>();
+
+        @Order(CatalogVersion.BUMP_ORDER + 1)
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onGameChanged(GameChangedEvent event) {
+            var probe = action.getAndSet(null);
+            if (probe != null) {
+                probe.run();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+        @Bean
+        AfterBumpProbe afterBumpProbe() {
+            return new AfterBumpProbe();
+        }
+    }
+}
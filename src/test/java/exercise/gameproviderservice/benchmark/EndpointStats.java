@@ -0,0 +1,83 @@
+package exercise.gameproviderservice.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters of one endpoint. Latencies are recorded in microseconds.
+ */
+class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String endpoint;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(long startNanos, int status) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), MAX_LATENCY_MICROS));
+        if (status == 409) {
+            conflicts.increment();
+        } else if (status >= 400) {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long startNanos) {
+        record(startNanos, 599);
+    }
+
+    void reset() {
+        latencies.reset();
+        conflicts.reset();
+        errors.reset();
+    }
+
+    long requests() {
+        return latencies.getTotalCount();
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-8s %10s %10s %9s %9s %9s %9s %8s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "409 %", "error %");
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        var requests = requests();
+        out.printf("%-8s %,10d %,10.0f %9.2f %9.2f %9.2f %9.2f %8.2f %8.2f%n",
+                endpoint,
+                requests,
+                requests / (elapsed.toNanos() / 1e9),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()),
+                percent(conflicts.sum(), requests),
+                percent(errors.sum(), requests));
+    }
+
+    /**
+     * Writes the full percentile distribution in HdrHistogram's {@code .hgrm} format, in milliseconds.
+     */
+    void printDistribution(PrintStream out) {
+        latencies.outputPercentileDistribution(out, 1000.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double percent(long count, long total) {
+        return total == 0 ? 0 : 100.0 * count / total;
+    }
+}
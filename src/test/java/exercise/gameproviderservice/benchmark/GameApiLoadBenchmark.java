@@ -0,0 +1,170 @@
+package exercise.gameproviderservice.benchmark;
+
+import exercise.gameproviderservice.GameProviderServiceApplication;
+import exercise.gameproviderservice.benchmark.LoadTestSettings.Operation;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mixed read/write load against {@code /v1/games} on a random port, from closed-loop clients that each wait for
+ * their response before sending the next request. Prints per-endpoint latency percentiles, throughput and
+ * 409/error rates, and writes the full latency distributions to {@code target/load-test}.
+ * Tune it with the {@link LoadTestSettings} system properties; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class GameApiLoadBenchmark {
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong created = new AtomicLong();
+    private final String runId = UUID.randomUUID().toString();
+
+    private HttpClient client;
+    private String baseUri;
+
+    @Test
+    void mixedTraffic() throws Exception {
+        for (var operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.name().toLowerCase()));
+        }
+
+        try (var context = new SpringApplicationBuilder(GameProviderServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + runId,
+                        "logging.level.root=warn",
+                        "logging.level.exercise.gameproviderservice=warn")
+                .run()) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUri = "http://localhost:%d/v1/games".formatted(port);
+            client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            seed();
+            drive(settings.warmUp());
+            stats.values().forEach(EndpointStats::reset);
+            var elapsed = drive(settings.duration());
+            report(elapsed);
+        }
+
+        assertThat(stats.values().stream().mapToLong(EndpointStats::requests).sum()).isPositive();
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        var batchSize = 1_000;
+        for (int from = 0; from < settings.games(); from += batchSize) {
+            var body = IntStream.range(from, Math.min(from + batchSize, settings.games()))
+                    .mapToObj(i -> gameBody(seededName(i), i % 2 == 0))
+                    .collect(Collectors.joining(",", "[", "]"));
+            var response = client.send(jsonRequest(baseUri + ":batch").POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+    }
+
+    private Duration drive(Duration duration) throws InterruptedException {
+        var deadline = System.nanoTime() + duration.toNanos();
+        var start = System.nanoTime();
+        var clients = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < settings.clients(); i++) {
+            clients.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    send(settings.nextOperation());
+                }
+                return null;
+            });
+        }
+
+        var executor = Executors.newFixedThreadPool(settings.clients());
+        try {
+            executor.invokeAll(clients);
+        } finally {
+            executor.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void send(Operation operation) {
+        var request = switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(baseUri + "/" + randomSeededName())).GET();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUri + "?limit=100")).GET();
+            case CREATE -> jsonRequest(baseUri).POST(HttpRequest.BodyPublishers.ofString(
+                    gameBody(runId + "-" + created.incrementAndGet(), true)));
+            case UPDATE -> jsonRequest(baseUri).PUT(HttpRequest.BodyPublishers.ofString(
+                    gameBody(randomSeededName(), ThreadLocalRandom.current().nextBoolean())));
+        };
+
+        var endpointStats = stats.get(operation);
+        var start = System.nanoTime();
+        try {
+            var response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            endpointStats.record(start, response.statusCode());
+        } catch (IOException e) {
+            endpointStats.recordFailure(start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(Duration elapsed) throws IOException {
+        System.out.printf("%n%d clients, %d games, %s recorded, mix %s%n",
+                settings.clients(), settings.games(), elapsed, settings.mix());
+        EndpointStats.printHeader(System.out);
+        stats.values().forEach(endpointStats -> endpointStats.print(System.out, elapsed));
+
+        Files.createDirectories(REPORT_DIRECTORY);
+        for (var entry : stats.entrySet()) {
+            var file = REPORT_DIRECTORY.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (var out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().printDistribution(out);
+            }
+        }
+        try (var out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve("summary.txt")))) {
+            EndpointStats.printHeader(out);
+            stats.values().forEach(endpointStats -> endpointStats.print(out, elapsed));
+        }
+    }
+
+    private HttpRequest.Builder jsonRequest(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).header("Content-Type", "application/json");
+    }
+
+    private String randomSeededName() {
+        return seededName(ThreadLocalRandom.current().nextInt(settings.games()));
+    }
+
+    private static String seededName(int i) {
+        return "game-" + i;
+    }
+
+    private static String gameBody(String name, boolean active) {
+        return """
+                {"name": "%s", "dateOfCreation": "%s", "active": %b}""".formatted(name, Instant.now(), active);
+    }
+}
@@ -0,0 +1,49 @@
+package exercise.gameproviderservice.benchmark;
+
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.mapper.GameMapperImpl;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.rest.payloads.GameResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameRequest;
+
+/**
+ * Cost of the MapStruct conversions on every request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GameMapperBenchmark {
+
+    private final GameMapper mapper = new GameMapperImpl();
+    private final GameRequest gameRequest = createGameRequest();
+    private final GameModel gameModel = withId(createGame());
+
+    @Benchmark
+    public GameModel gameRequestToGame() {
+        return mapper.gameRequestToGame(gameRequest);
+    }
+
+    @Benchmark
+    public GameResponse gameToGameResponse() {
+        return mapper.gameToGameResponse(gameModel);
+    }
+
+    private static GameModel withId(GameModel gameModel) {
+        gameModel.setId(1L);
+        gameModel.setVersion(0);
+        gameModel.setDateOfCreation(Instant.now());
+        return gameModel;
+    }
+}
@@ -0,0 +1,78 @@
+package exercise.gameproviderservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import exercise.gameproviderservice.rest.payloads.GameResponse;
+import exercise.gameproviderservice.rest.payloads.PayloadFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Size and Jackson (de)serialization cost of a {@code GET /v1/games} page in each {@link PayloadFormat}. Payload
+ * sizes are printed on setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GamePayloadFormatBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private PayloadFormat format;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<GameResponse> games;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        var objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory(format)).build();
+        var listType = objectMapper.getTypeFactory().constructCollectionType(List.class, GameResponse.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        var now = Instant.now();
+        games = IntStream.range(0, size)
+                .mapToObj(i -> new GameResponse("game-" + i, now.minus(i, ChronoUnit.DAYS), i % 2 == 0))
+                .toList();
+        payload = writer.writeValueAsBytes(games);
+        System.out.printf("%n%s payload of %d games: %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serializeGames() throws IOException {
+        return writer.writeValueAsBytes(games);
+    }
+
+    @Benchmark
+    public List<GameResponse> deserializeGames() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private static JsonFactory factory(PayloadFormat format) {
+        return switch (format) {
+            case JSON -> new JsonFactory();
+            case SMILE -> new SmileFactory();
+            case CBOR -> new CBORFactory();
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package exercise.gameproviderservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import exercise.gameproviderservice.rest.payloads.GameResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization of a {@code GET /v1/games} page, with the object mapper configured as Spring Boot does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GameResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<GameResponse> games;
+
+    @Setup
+    public void setUp() {
+        var objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, GameResponse.class));
+        var now = Instant.now();
+        games = IntStream.range(0, size)
+                .mapToObj(i -> new GameResponse("game-" + i, now.minus(i, ChronoUnit.DAYS), i % 2 == 0))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeGames() throws JsonProcessingException {
+        return writer.writeValueAsBytes(games);
+    }
+}
@@ -0,0 +1,83 @@
+package exercise.gameproviderservice.benchmark;
+
+import exercise.gameproviderservice.GameProviderServiceApplication;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * {@link GameService} reads and writes through JPA, the second-level cache and embedded H2, without the web layer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GameServiceBenchmark {
+
+    private static final int GAMES = 1_000;
+
+    private final AtomicLong inserted = new AtomicLong();
+    private final String runId = UUID.randomUUID().toString();
+
+    private ConfigurableApplicationContext context;
+    private GameService gameService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(GameProviderServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + runId,
+                        "logging.level.root=warn",
+                        "logging.level.exercise.gameproviderservice=warn")
+                .run();
+        gameService = context.getBean(GameService.class);
+        IntStream.range(0, GAMES).forEach(i -> gameService.saveGame(new GameRequest(name(i), Instant.now(), true)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GameModel getGame() {
+        return gameService.getGame(randomName());
+    }
+
+    @Benchmark
+    public GameModel saveGame() {
+        return gameService.saveGame(new GameRequest(runId + "-" + inserted.incrementAndGet(), Instant.now(), true));
+    }
+
+    @Benchmark
+    public GameModel updateGame() {
+        return gameService.updateGame(new GameRequest(randomName(), Instant.now(), ThreadLocalRandom.current().nextBoolean()));
+    }
+
+    private static String randomName() {
+        return name(ThreadLocalRandom.current().nextInt(GAMES));
+    }
+
+    private static String name(int i) {
+        return "game-" + i;
+    }
+}
@@ -0,0 +1,54 @@
+package exercise.gameproviderservice.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Load test parameters, read from system properties so runs can be resized from the command line, e.g.
+ * {@code mvn test -Pbenchmark -Dtest=GameApiLoadBenchmark -Dload.clients=200 -Dload.mix=get:50,update:50}.
+ *
+ * @param clients  concurrent closed-loop clients
+ * @param games    games seeded before the run; reads and updates pick among them
+ * @param warmUp   traffic sent before recording starts
+ * @param duration recorded traffic
+ * @param mix      relative weight of each operation
+ */
+record LoadTestSettings(int clients, int games, Duration warmUp, Duration duration, Map<Operation, Integer> mix) {
+
+    enum Operation { GET, LIST, CREATE, UPDATE }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("load.clients", 64),
+                Integer.getInteger("load.games", 1_000),
+                Duration.parse(System.getProperty("load.warm-up", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT30S")),
+                parseMix(System.getProperty("load.mix", "get:70,list:10,create:10,update:10")));
+    }
+
+    Operation nextOperation() {
+        var total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        var pick = ThreadLocalRandom.current().nextInt(total);
+        for (var entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        return Arrays.stream(mix.split(","))
+                .map(weight -> weight.trim().split(":"))
+                .collect(Collectors.toMap(
+                        weight -> Operation.valueOf(weight[0].toUpperCase()),
+                        weight -> Integer.valueOf(weight[1]),
+                        Integer::sum,
+                        LinkedHashMap::new));
+    }
+}
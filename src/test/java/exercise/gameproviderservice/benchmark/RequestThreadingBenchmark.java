@@ -0,0 +1,135 @@
+package exercise.gameproviderservice.benchmark;
+
+import exercise.gameproviderservice.GameProviderServiceApplication;
+import exercise.gameproviderservice.config.VirtualThreads;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares {@code PUT /v1/games} on Tomcat's platform-thread pool and on virtual threads. Every update is a
+ * database transaction, and with far more requests in flight than pooled connections most of them block waiting
+ * for one: on a platform thread that holds one of Tomcat's workers, on a virtual thread it only parks.
+ * Latency distributions and throughput are written to {@code target/load-test/threading-<mode>.*}.
+ * Run with {@code mvn test -Pbenchmark}; the virtual mode needs the Java 21 build.
+ */
+@Tag("benchmark")
+class RequestThreadingBenchmark {
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+    private static final int GAMES = 10_000;
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int CONCURRENCY = 1_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+
+    @Test
+    void platformThreads() throws IOException, InterruptedException {
+        run("platform", false);
+    }
+
+    @Test
+    void virtualThreads() throws IOException, InterruptedException {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads require the Java 21 build");
+        run("virtual", true);
+    }
+
+    private void run(String mode, boolean virtualThreads) throws IOException, InterruptedException {
+        try (var context = new SpringApplicationBuilder(GameProviderServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                        "game-provider.virtual-threads.enabled=" + virtualThreads,
+                        "logging.level.root=warn")
+                .run()) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            seed(client, port);
+            load(client, port, WARM_UP, new EndpointStats(mode));
+            var stats = new EndpointStats(mode);
+            report(mode, stats, load(client, port, MEASUREMENT, stats));
+            assertThat(stats.requests()).isPositive();
+        }
+    }
+
+    private void seed(HttpClient client, int port) throws IOException, InterruptedException {
+        for (int from = 0; from < GAMES; from += SEED_BATCH_SIZE) {
+            var body = IntStream.range(from, from + SEED_BATCH_SIZE)
+                    .mapToObj(i -> gameBody("game-" + i, true))
+                    .collect(Collectors.joining(",", "[", "]"));
+            var request = jsonRequest("http://localhost:%d/v1/games:batch".formatted(port))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            assertThat(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(200);
+        }
+    }
+
+    private Duration load(HttpClient client, int port, Duration duration, EndpointStats stats) throws InterruptedException {
+        var inFlight = new Semaphore(CONCURRENCY);
+        var start = System.nanoTime();
+        var deadline = start + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            var random = ThreadLocalRandom.current();
+            var request = jsonRequest("http://localhost:%d/v1/games".formatted(port))
+                    .PUT(HttpRequest.BodyPublishers.ofString(gameBody("game-" + random.nextInt(GAMES), random.nextBoolean())))
+                    .build();
+            var sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error == null) {
+                            stats.record(sent, response.statusCode());
+                        } else {
+                            stats.recordFailure(sent);
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(CONCURRENCY);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void report(String mode, EndpointStats stats, Duration elapsed) throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        try (var out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve("threading-" + mode + ".hgrm")))) {
+            stats.printDistribution(out);
+        }
+        try (var out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve("threading-" + mode + ".txt")))) {
+            EndpointStats.printHeader(out);
+            stats.print(out, elapsed);
+        }
+        EndpointStats.printHeader(System.out);
+        stats.print(System.out, elapsed);
+    }
+
+    private static HttpRequest.Builder jsonRequest(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).header("Content-Type", "application/json");
+    }
+
+    private static String gameBody(String name, boolean active) {
+        return """
+                {"name": "%s", "dateOfCreation": "%s", "active": %b}""".formatted(name, Instant.now(), active);
+    }
+}
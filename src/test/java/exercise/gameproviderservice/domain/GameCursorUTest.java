@@ -0,0 +1,46 @@
+package exercise.gameproviderservice.domain;
+
+import exercise.gameproviderservice.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameCursorUTest {
+
+    @Test
+    void encode_decode_roundTrips() {
+        var cursor = new GameCursor("Game: with separators/and+symbols", 42L);
+
+        var actual = GameCursor.decode(cursor.encode());
+
+        assertThat(actual).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_invalidCursor_fails() {
+        assertThatThrownBy(() -> GameCursor.decode("not a cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_missingId_fails() {
+        var cursor = new GameCursor("Game", null).encode();
+
+        assertThatThrownBy(() -> GameCursor.decode(cursor))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void encode_decode_byCreation_roundTrips() {
+        var cursor = GameCursor.byCreation(new GameView(42L, "Game", Instant.parse("2024-01-01T10:15:30.123456Z"), true, 0));
+        var undated = GameCursor.byCreation(new GameView(43L, "Game", null, true, 0));
+
+        assertThat(GameCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(GameCursor.decode(undated.encode())).isEqualTo(undated);
+        assertThat(cursor.isByCreation()).isTrue();
+        assertThat(new GameCursor("Game", 42L).isByCreation()).isFalse();
+    }
+}
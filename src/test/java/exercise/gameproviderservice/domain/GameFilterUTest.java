@@ -0,0 +1,62 @@
+package exercise.gameproviderservice.domain;
+
+import exercise.gameproviderservice.domain.exception.InvalidCursorException;
+import exercise.gameproviderservice.domain.exception.InvalidFilterException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameFilterUTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-02-01T00:00:00Z");
+
+    @Test
+    void matches_activeGameInsideTheWindow() {
+        var filter = new GameFilter(null, true, FROM, TO);
+
+        assertThat(filter.matches(new GameView(1L, "game", FROM, true, 0))).isTrue();
+        assertThat(filter.matches(new GameView(1L, "game", TO, true, 0))).isFalse();
+        assertThat(filter.matches(new GameView(1L, "game", FROM, false, 0))).isFalse();
+        assertThat(filter.matches(new GameView(1L, "game", null, true, 0))).isFalse();
+    }
+
+    @Test
+    void isEmpty_onlyWithoutAnyRestriction() {
+        assertThat(GameFilter.NONE.isEmpty()).isTrue();
+        assertThat(new GameFilter(null, false, null, null).isEmpty()).isFalse();
+    }
+
+    @Test
+    void ordersByCreation_onlyWithoutPrefix() {
+        assertThat(new GameFilter(null, true, null, null).ordersByCreation()).isTrue();
+        assertThat(new GameFilter(null, null, FROM, null).ordersByCreation()).isTrue();
+        assertThat(new GameFilter(new NamePrefix("game"), true, FROM, TO).ordersByCreation()).isFalse();
+        assertThat(GameFilter.NONE.ordersByCreation()).isFalse();
+    }
+
+    @Test
+    void checkCursor_ofTheOtherOrder_fails() {
+        var byName = new GameCursor("game", 1L);
+        var byCreation = GameCursor.byCreation(new GameView(1L, "game", FROM, true, 0));
+
+        new GameFilter(null, true, null, null).checkCursor(byCreation);
+        GameFilter.NONE.checkCursor(byName);
+        GameFilter.NONE.checkCursor(null);
+        assertThatThrownBy(() -> new GameFilter(null, true, null, null).checkCursor(byName))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> GameFilter.NONE.checkCursor(byCreation))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void new_emptyWindow_fails() {
+        assertThatThrownBy(() -> new GameFilter(null, null, TO, FROM))
+                .isInstanceOf(InvalidFilterException.class);
+        assertThatThrownBy(() -> new GameFilter(null, null, FROM, FROM))
+                .isInstanceOf(InvalidFilterException.class);
+    }
+}
@@ -0,0 +1,128 @@
+package exercise.gameproviderservice.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static exercise.gameproviderservice.fixtures.GameFixtures.prefixFilter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSnapshotUTest {
+
+    private static final GameView ALPHA = new GameView(1L, "alpha", null, true, 0);
+    private static final GameView BRAVO = new GameView(2L, "bravo", null, true, 0);
+    private static final GameView CHARLIE = new GameView(3L, "charlie", null, false, 0);
+
+    private final GameSnapshot snapshot = GameSnapshot.of(List.of(CHARLIE, ALPHA, BRAVO));
+
+    @Test
+    void find_byName_returnsTheGame() {
+        assertThat(snapshot.find("bravo")).contains(BRAVO);
+        assertThat(snapshot.find("delta")).isEmpty();
+    }
+
+    @Test
+    void page_firstPage_returnsSortedGamesAndNextCursor() {
+        var actual = snapshot.page(2, null);
+
+        assertThat(actual.games()).containsExactly(ALPHA, BRAVO);
+        assertThat(actual.nextCursor()).contains(GameCursor.of(BRAVO));
+    }
+
+    @Test
+    void page_afterCursor_resumesAfterIt() {
+        var actual = snapshot.page(2, GameCursor.of(ALPHA));
+
+        assertThat(actual.games()).containsExactly(BRAVO, CHARLIE);
+        assertThat(actual.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void page_cursorOfRemovedGame_resumesAtItsPosition() {
+        var actual = snapshot.page(5, new GameCursor("b", 9L));
+
+        assertThat(actual.games()).containsExactly(BRAVO, CHARLIE);
+    }
+
+    @Test
+    void page_withPrefix_returnsOnlyMatchingGames() {
+        var snapshot = GameSnapshot.of(List.of(ALPHA, BRAVO, CHARLIE, new GameView(4L, "bravissimo", null, true, 0)));
+
+        var first = snapshot.page(1, null, prefixFilter("brav"));
+        var second = snapshot.page(1, first.next(), prefixFilter("brav"));
+
+        assertThat(first.games()).extracting(GameView::name).containsExactly("bravissimo");
+        assertThat(second.games()).containsExactly(BRAVO);
+        assertThat(second.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void page_withPrefix_noMatches_returnsEmptyPage() {
+        assertThat(snapshot.page(10, null, prefixFilter("delta")).games()).isEmpty();
+        assertThat(snapshot.page(10, GameCursor.of(CHARLIE), prefixFilter("a")).games()).isEmpty();
+    }
+
+    @Test
+    void page_withActiveFilter_skipsInactiveGames() {
+        var actual = snapshot.page(1, null, new GameFilter(null, false, null, null));
+
+        assertThat(actual.games()).containsExactly(CHARLIE);
+        assertThat(actual.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void page_withActiveFilter_pagesByCreationDate() {
+        var early = new GameView(5L, "zulu", Instant.parse("2024-01-01T00:00:00Z"), true, 0);
+        var late = new GameView(4L, "yankee", Instant.parse("2024-02-01T00:00:00Z"), true, 0);
+        var sameTime = new GameView(6L, "x-ray", Instant.parse("2024-02-01T00:00:00Z"), true, 0);
+        var games = GameSnapshot.of(List.of(ALPHA, BRAVO, CHARLIE, early, late, sameTime));
+        var filter = new GameFilter(null, true, null, null);
+
+        var first = games.page(3, null, filter);
+        var second = games.page(3, first.next(), filter);
+
+        assertThat(first.games()).containsExactly(ALPHA, BRAVO, early);
+        assertThat(first.nextCursor()).contains(GameCursor.byCreation(early));
+        assertThat(second.games()).containsExactly(late, sameTime);
+        assertThat(second.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void with_changedGame_leavesTheOriginalUntouched() {
+        var renamed = new GameView(1L, "alpha", null, false, 1);
+        var added = new GameView(4L, "aardvark", null, true, 0);
+
+        var actual = snapshot.with(renamed).with(added);
+
+        assertThat(actual.stream()).containsExactly(added, renamed, BRAVO, CHARLIE);
+        assertThat(actual.find("alpha")).contains(renamed);
+        assertThat(snapshot.stream()).containsExactly(ALPHA, BRAVO, CHARLIE);
+    }
+
+    @Test
+    void without_removesTheGame() {
+        var actual = snapshot.without("bravo");
+
+        assertThat(actual.stream()).containsExactly(ALPHA, CHARLIE);
+        assertThat(actual.find("bravo")).isEmpty();
+        assertThat(actual.without("unknown")).isSameAs(actual);
+        assertThat(snapshot.size()).isEqualTo(3);
+    }
+
+    @Test
+    void replace_manyGames_mergesThemInOrder() {
+        var updated = new GameView(3L, "charlie", null, true, 1);
+        var added = new GameView(5L, "bravo2", null, true, 0);
+        var first = new GameView(6L, "a", null, true, 0);
+
+        var actual = snapshot.replace(List.of("alpha", "charlie", "bravo2", "a", "unknown"),
+                List.of(updated, added, first));
+
+        assertThat(actual.stream()).containsExactly(first, BRAVO, added, updated);
+        assertThat(actual.find("alpha")).isEmpty();
+        assertThat(actual.find("charlie")).contains(updated);
+        assertThat(snapshot.replace(List.of("unknown"), List.of())).isSameAs(snapshot);
+        assertThat(snapshot.stream()).containsExactly(ALPHA, BRAVO, CHARLIE);
+    }
+}
@@ -0,0 +1,31 @@
+package exercise.gameproviderservice.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NamePrefixUTest {
+
+    @Test
+    void to_incrementsTheLastCharacter() {
+        assertThat(new NamePrefix("Game").to()).isEqualTo("Gamf");
+    }
+
+    @Test
+    void to_dropsTrailingMaxCharacters() {
+        assertThat(new NamePrefix("Ga" + Character.MAX_VALUE).to()).isEqualTo("Gb");
+    }
+
+    @Test
+    void to_onlyMaxCharacters_isOpenEnded() {
+        assertThat(new NamePrefix(String.valueOf(Character.MAX_VALUE)).to()).isNull();
+    }
+
+    @Test
+    void matches_namesStartingWithThePrefix() {
+        var prefix = new NamePrefix("Gam");
+
+        assertThat(prefix.matches("Game")).isTrue();
+        assertThat(prefix.matches("Gal")).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package exercise.gameproviderservice.fixtures;
+
+import exercise.gameproviderservice.rest.controller.GameController;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConcurrentUpdates {
+
+    public static void updateConcurrently(GameController gameController, String gameName, int updates) {
+        updateConcurrently(gameController, gameName, updates, () -> {
+        });
+    }
+
+    /**
+     * Sends {@code updates} PUTs of the game from as many threads, released together, and waits for every response.
+     * {@code onAccepted} runs on a caller's thread once the controller has handed back its pending response.
+     */
+    public static void updateConcurrently(GameController gameController, String gameName, int updates,
+                                          Runnable onAccepted) {
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(updates);
+        var responses = new ArrayList<CompletableFuture<?>>();
+
+        try {
+            IntStream.range(0, updates).forEach(i -> responses.add(CompletableFuture.supplyAsync(() -> {
+                awaitQuietly(start);
+                var request = new GameRequest(gameName, Instant.now().plus(i, ChronoUnit.MINUTES), true);
+                var response = gameController.updateGame(request);
+                onAccepted.run();
+                return response.join();
+            }, executor)));
+            start.countDown();
+
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
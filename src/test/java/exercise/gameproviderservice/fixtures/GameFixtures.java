@@ -1,6 +1,9 @@
 package exercise.gameproviderservice.fixtures;
 
 import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.GameView;
+import exercise.gameproviderservice.domain.NamePrefix;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
 import exercise.gameproviderservice.rest.payloads.GameResponse;
 import lombok.AccessLevel;
@@ -18,6 +21,14 @@ public class GameFixtures {
         return new GameModel(GAME_NAME, DOC, ACTIVE);
     }
 
+    public static GameView createGameView() {
+        return new GameView(1L, GAME_NAME, DOC, ACTIVE, 0);
+    }
+
+    public static GameFilter prefixFilter(String prefix) {
+        return new GameFilter(new NamePrefix(prefix), null, null, null);
+    }
+
     public static GameRequest createGameRequest() {
         return new GameRequest(GAME_NAME, DOC, ACTIVE);
     }
@@ -1,5 +1,7 @@
 package exercise.gameproviderservice.mapper;
 
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.BatchItemStatus;
 import exercise.gameproviderservice.domain.GameModel;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
 import org.junit.jupiter.api.Test;
@@ -41,4 +43,16 @@ class GameModelMapperUTest {
         assertThat(actual.dateOfCreation()).isEqualTo(game.getDateOfCreation());
         assertThat(actual.active()).isEqualTo(game.getActive());
     }
+
+    @Test
+    void batchItemResultToBatchItemResponse_mapsProperly() {
+        var game = new GameModel(GAME_NAME, DOC, ACTIVE);
+        var result = new BatchItemResult(GAME_NAME, BatchItemStatus.CREATED, game);
+
+        var actual = testObj.batchItemResultToBatchItemResponse(result);
+
+        assertThat(actual.name()).isEqualTo(GAME_NAME);
+        assertThat(actual.status()).isEqualTo(BatchItemStatus.CREATED);
+        assertThat(actual.game()).isEqualTo(testObj.gameToGameResponse(game));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package exercise.gameproviderservice.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.BatchItemStatus;
+import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.rest.payloads.BatchItemResponse;
+import exercise.gameproviderservice.rest.payloads.BulkDeleteRequest;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+import java.util.List;
+
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameRequest;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameResponse;
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@Import(SimpleMeterRegistry.class)
+@WebMvcTest(controllers = GameBatchController.class)
+class GameBatchControllerITest {
+
+    private static final String BATCH_INSERT_PATH = "/v1/games:batch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockBean
+    private GameService gameService;
+
+    @MockBean
+    private GameMapper gameMapper;
+
+    @Test
+    void insertGames_whenValidInput_thenReturns2xx() throws Exception {
+        var request = createGameRequest();
+        var game = createGame();
+        var result = new BatchItemResult(game.getName(), BatchItemStatus.CREATED, game);
+
+        when(gameService.saveGames(List.of(request))).thenReturn(List.of(result));
+        when(gameMapper.batchItemResultToBatchItemResponse(result))
+                .thenReturn(new BatchItemResponse(game.getName(), BatchItemStatus.CREATED, createGameResponse()));
+
+        var requestBuilder = post(BATCH_INSERT_PATH)
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(List.of(request)));
+
+        var actual = mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(actual).isArray()
+                .hasSize(1)
+                .first()
+                .isObject()
+                .containsEntry("name", request.name())
+                .containsEntry("status", "CREATED")
+                .hasEntrySatisfying("game", gameJson -> assertThatJson(gameJson).isObject()
+                        .containsEntry("name", request.name())
+                        .containsEntry("active", request.active()));
+    }
+
+    @Test
+    void insertGames_whenAnItemIsInvalid_thenReturns4xx() throws Exception {
+        var requests = List.of(createGameRequest(), new GameRequest("", Instant.now(), null));
+
+        var requestBuilder = post(BATCH_INSERT_PATH)
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(requests));
+
+        performAndAssertErrors("'insertGames.gameRequests[1].name' has an invalid value 'must not be blank'", requestBuilder);
+    }
+
+    @Test
+    void insertGames_whenEmpty_thenReturns4xx() throws Exception {
+        var requestBuilder = post(BATCH_INSERT_PATH)
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content("[]");
+
+        performAndAssertErrors("'insertGames.gameRequests' has an invalid value 'must not be empty'", requestBuilder);
+    }
+
+    @Test
+    void updateGames_whenValidInput_thenReturns2xx() throws Exception {
+        var bulkUpdateRequest = new BulkUpdateRequest(List.of("game"), null, false);
+        var result = BatchItemResult.of("game", BatchItemStatus.UPDATED);
+
+        when(gameService.updateGames(bulkUpdateRequest)).thenReturn(List.of(result));
+        when(gameMapper.batchItemResultToBatchItemResponse(result))
+                .thenReturn(new BatchItemResponse("game", BatchItemStatus.UPDATED, null));
+
+        var requestBuilder = patch("/v1/games:bulk")
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(bulkUpdateRequest));
+
+        var actual = mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(actual).isEqualTo("[{\"name\": \"game\", \"status\": \"UPDATED\"}]");
+    }
+
+    @Test
+    void updateGames_whenNoNames_thenReturns4xx() throws Exception {
+        var requestBuilder = patch("/v1/games:bulk")
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content("{\"names\": [], \"active\": true}");
+
+        performAndAssertErrors("'names' has an invalid value 'must not be empty'", requestBuilder);
+    }
+
+    @Test
+    void updateGames_whenNoValues_thenReturns4xx() throws Exception {
+        var requestBuilder = patch("/v1/games:bulk")
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content("{\"names\": [\"game\"]}");
+
+        mockMvc.perform(requestBuilder).andExpect(status().isUnprocessableEntity());
+        performAndAssertErrors("'anyValueSet' has an invalid value 'dateOfCreation or active must be set'", requestBuilder);
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void deleteGames_whenValidInput_thenReturns2xx() throws Exception {
+        var result = BatchItemResult.of("game", BatchItemStatus.DELETED);
+
+        when(gameService.deleteGames(List.of("game"))).thenReturn(List.of(result));
+        when(gameMapper.batchItemResultToBatchItemResponse(result))
+                .thenReturn(new BatchItemResponse("game", BatchItemStatus.DELETED, null));
+
+        var requestBuilder = post("/v1/games:batchDelete")
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new BulkDeleteRequest(List.of("game"))));
+
+        var actual = mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(actual).isEqualTo("[{\"name\": \"game\", \"status\": \"DELETED\"}]");
+    }
+
+    private void performAndAssertErrors(String expectedMessage, MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        var mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(status()
+                        .is4xxClientError())
+                .andReturn();
+
+        var actualResponseAsJSON = mvcResult.getResponse().getContentAsString();
+        assertThatJson(actualResponseAsJSON)
+                .isObject()
+                .hasEntrySatisfying("errors", violations -> assertThatJson(violations)
+                        .isArray()
+                        .hasSize(1)
+                        .extracting("errorMessage")
+                        .asString()
+                        .contains(expectedMessage));
+    }
+}
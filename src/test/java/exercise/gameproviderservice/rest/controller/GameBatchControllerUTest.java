@@ -0,0 +1,93 @@
+package exercise.gameproviderservice.rest.controller;
+
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.BatchItemStatus;
+import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.rest.payloads.BatchItemResponse;
+import exercise.gameproviderservice.rest.payloads.BulkDeleteRequest;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
+import exercise.gameproviderservice.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameRequest;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameBatchControllerUTest {
+    @Mock
+    private GameService gameService;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @InjectMocks
+    private GameBatchController testObj;
+
+    @Test
+    void insertGames_correctPayload_returnsOneResultPerGame() {
+        var gameRequest = createGameRequest();
+        var game = createGame();
+        var created = new BatchItemResult(game.getName(), BatchItemStatus.CREATED, game);
+        var duplicated = BatchItemResult.of(game.getName(), BatchItemStatus.ALREADY_EXISTS);
+        var createdResponse = new BatchItemResponse(game.getName(), BatchItemStatus.CREATED, createGameResponse());
+        var duplicatedResponse = new BatchItemResponse(game.getName(), BatchItemStatus.ALREADY_EXISTS, null);
+
+        when(gameService.saveGames(List.of(gameRequest, gameRequest))).thenReturn(List.of(created, duplicated));
+        when(gameMapper.batchItemResultToBatchItemResponse(created)).thenReturn(createdResponse);
+        when(gameMapper.batchItemResultToBatchItemResponse(duplicated)).thenReturn(duplicatedResponse);
+
+        ResponseEntity actual = testObj.insertGames(List.of(gameRequest, gameRequest));
+
+        assertThat(actual).isEqualTo(ResponseEntity.ok(List.of(createdResponse, duplicatedResponse)));
+    }
+
+    @Test
+    void insertGames_correctPayloadButSomethingWentWrong_returns500() {
+        var gameRequests = List.of(createGameRequest());
+        var exception = new RuntimeException("Error");
+
+        doThrow(exception).when(gameService).saveGames(gameRequests);
+
+        assertThatThrownBy(() -> testObj.insertGames(gameRequests))
+                .isSameAs(exception);
+    }
+
+    @Test
+    void updateGames_correctPayload_returnsOneResultPerName() {
+        var bulkUpdateRequest = new BulkUpdateRequest(List.of("game"), null, true);
+        var result = BatchItemResult.of("game", BatchItemStatus.UPDATED);
+        var response = new BatchItemResponse("game", BatchItemStatus.UPDATED, null);
+
+        when(gameService.updateGames(bulkUpdateRequest)).thenReturn(List.of(result));
+        when(gameMapper.batchItemResultToBatchItemResponse(result)).thenReturn(response);
+
+        ResponseEntity actual = testObj.updateGames(bulkUpdateRequest);
+
+        assertThat(actual).isEqualTo(ResponseEntity.ok(List.of(response)));
+    }
+
+    @Test
+    void deleteGames_correctPayload_returnsOneResultPerName() {
+        var result = BatchItemResult.of("game", BatchItemStatus.NOT_FOUND);
+        var response = new BatchItemResponse("game", BatchItemStatus.NOT_FOUND, null);
+
+        when(gameService.deleteGames(List.of("game"))).thenReturn(List.of(result));
+        when(gameMapper.batchItemResultToBatchItemResponse(result)).thenReturn(response);
+
+        ResponseEntity actual = testObj.deleteGames(new BulkDeleteRequest(List.of("game")));
+
+        assertThat(actual).isEqualTo(ResponseEntity.ok(List.of(response)));
+    }
+}
@@ -1,41 +1,99 @@
 package exercise.gameproviderservice.rest.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameDelta;
+import exercise.gameproviderservice.domain.GameDeltaPage;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GamePage;
+import exercise.gameproviderservice.domain.GameView;
+import exercise.gameproviderservice.domain.exception.ChangeFeedFullException;
 import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
 import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.config.ContentNegotiationConfig;
+import exercise.gameproviderservice.config.ResponseCacheProperties;
 import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.rest.cache.EncodedResponseCache;
+import exercise.gameproviderservice.rest.cache.PayloadEncoder;
+import exercise.gameproviderservice.rest.feed.GameChangeFeed;
+import exercise.gameproviderservice.rest.payloads.GameDeltaResponse;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.rest.payloads.GameResponse;
+import exercise.gameproviderservice.service.CatalogVersion;
+import exercise.gameproviderservice.service.ConflictRetrier;
 import exercise.gameproviderservice.service.GameService;
+import exercise.gameproviderservice.service.UpdateCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
 import static exercise.gameproviderservice.fixtures.GameFixtures.createGameRequest;
 import static exercise.gameproviderservice.fixtures.GameFixtures.createGameResponse;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameView;
+import static exercise.gameproviderservice.fixtures.GameFixtures.prefixFilter;
+import static exercise.gameproviderservice.rest.payloads.PayloadFormat.CBOR_VALUE;
+import static exercise.gameproviderservice.rest.payloads.PayloadFormat.SMILE_VALUE;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
+@Import({SimpleMeterRegistry.class, EncodedResponseCache.class, PayloadEncoder.class, ContentNegotiationConfig.class})
+@EnableConfigurationProperties(ResponseCacheProperties.class)
 @WebMvcTest(controllers = GameController.class)
 class GameControllerITest {
 
@@ -53,14 +111,47 @@ class GameControllerITest {
     @MockBean
     private GameMapper gameMapper;
 
+    @MockBean
+    private ConflictRetrier conflictRetrier;
+
+    @MockBean
+    private UpdateCoalescer updateCoalescer;
+
+    @MockBean
+    private GameChangeFeed changeFeed;
+
+    @SpyBean
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private EncodedResponseCache responseCache;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @BeforeEach
+    void setUp() {
+        responseCache.invalidateAll();
+        when(conflictRetrier.execute(any(), any())).thenAnswer(invocation -> {
+            try {
+                return CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
     @Test
     void getAll_noParams_thenReturns2xx() throws Exception {
         var request = createGameRequest();
-        var game = createGame();
+        var game = createGameView();
         var gameResponse = createGameResponse();
 
-        when(gameService.getGames()).thenReturn(List.of(game));
-        when(gameMapper.gameToGameResponse(game)).thenReturn(gameResponse);
+        when(gameService.getGames(100, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), null));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
 
         var requestBuilder = get(GAMES_BASE_PATH)
                 .accept(APPLICATION_JSON_VALUE)
@@ -81,14 +172,177 @@ class GameControllerITest {
                         .containsEntry("dateOfCreation", request.dateOfCreation().toString()));
     }
 
+    @Test
+    void getAll_withCursor_thenReturnsNextCursorHeader() throws Exception {
+        var game = createGameView();
+        var after = new GameCursor("A game", 1L);
+        var next = new GameCursor(game.name(), 2L);
+
+        when(gameService.getGames(1, after, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), next));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("limit", "1")
+                .param("after", after.encode())
+                .accept(APPLICATION_JSON_VALUE);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(header().string(GameController.NEXT_CURSOR_HEADER, next.encode()));
+    }
+
+    @Test
+    void getAll_invalidCursor_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("after", "not a cursor")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("The cursor [not a cursor] is not valid", requestBuilder);
+    }
+
+    @Test
+    void getAll_withPrefix_thenSearchesByPrefix() throws Exception {
+        var game = createGameView();
+
+        when(gameService.getGames(10, null, prefixFilter("Gam"))).thenReturn(new GamePage<>(List.of(game), null));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("limit", "10")
+                .param("prefix", "Gam")
+                .accept(APPLICATION_JSON_VALUE);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(GameController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAll_withActiveAndCreationWindow_thenFilters() throws Exception {
+        var from = Instant.parse("2024-01-01T00:00:00Z");
+        var to = Instant.parse("2024-02-01T00:00:00Z");
+
+        when(gameService.getGames(100, null, new GameFilter(null, true, from, to))).thenReturn(new GamePage<>(List.of(), null));
+
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("active", "true")
+                .param("createdFrom", from.toString())
+                .param("createdTo", to.toString())
+                .accept(APPLICATION_JSON_VALUE);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void getAll_emptyCreationWindow_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("createdFrom", "2024-02-01T00:00:00Z")
+                .param("createdTo", "2024-01-01T00:00:00Z")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("The filter is not valid: createdFrom must be before createdTo", requestBuilder);
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void getChanges_thenReturnsUpsertsAndTombstones() throws Exception {
+        var upsert = new GameDelta(4L, GameChangeType.UPDATED, "kept", Instant.parse("2024-01-01T00:00:00Z"), true);
+        var tombstone = new GameDelta(7L, GameChangeType.DELETED, "removed", null, null);
+
+        when(gameService.getChanges(3L, 2)).thenReturn(new GameDeltaPage(List.of(upsert, tombstone), 3L, true));
+        when(gameMapper.gameDeltaToGameDeltaResponse(any())).thenAnswer(invocation -> {
+            GameDelta delta = invocation.getArgument(0);
+            return new GameDeltaResponse(delta.sequence(), delta.type(), delta.name(), delta.dateOfCreation(),
+                    delta.active());
+        });
+
+        var requestBuilder = get(GAMES_BASE_PATH + "/changes")
+                .param("since", "3")
+                .param("limit", "2")
+                .accept(APPLICATION_JSON_VALUE);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "changes": [
+                            {"sequence": 4, "type": "UPDATED", "name": "kept", "dateOfCreation": "2024-01-01T00:00:00Z", "active": true},
+                            {"sequence": 7, "type": "DELETED", "name": "removed", "dateOfCreation": null, "active": null}
+                          ],
+                          "lastSequence": 7,
+                          "hasMore": true
+                        }
+                        """, true));
+    }
+
+    @Test
+    void getChanges_negativeSince_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH + "/changes")
+                .param("since", "-1")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("'getChanges.since' has an invalid value", requestBuilder);
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void getAll_emptyPrefix_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("prefix", "")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("'getGames.prefix' has an invalid value", requestBuilder);
+    }
+
+    @Test
+    void getAll_limitOutOfRange_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("limit", "0")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("'getGames.limit' has an invalid value", requestBuilder);
+    }
+
+    @Test
+    void export_noParams_thenStreamsNdjson() throws Exception {
+        var request = createGameRequest();
+        var game = createGameView();
+
+        doAnswer(invocation -> {
+            Consumer<GameView> consumer = invocation.getArgument(0);
+            consumer.accept(game);
+            return null;
+        }).when(gameService).exportGames(any());
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        var mvcResult = mockMvc.perform(get(GAMES_BASE_PATH + "/export").accept(APPLICATION_NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var actual = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(actual).endsWith("\n");
+        assertThatJson(actual.strip()).isObject()
+                .containsEntry("name", request.name())
+                .containsEntry("active", request.active())
+                .containsEntry("dateOfCreation", request.dateOfCreation().toString());
+    }
+
     @Test
     void getGame_gameName_thenReturns2xx() throws Exception {
         var request = createGameRequest();
-        var game = createGame();
+        var game = createGameView();
         var gameResponse = createGameResponse();
 
-        when(gameService.getGame(request.name())).thenReturn(game);
-        when(gameMapper.gameToGameResponse(game)).thenReturn(gameResponse);
+        when(gameService.getGameView(request.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
 
         MockHttpServletRequestBuilder mockHttpServletRequestBuilder = get(GAME_ID_BASE_PATH.formatted(request.name()));
         var requestBuilder = mockHttpServletRequestBuilder
@@ -98,11 +352,182 @@ class GameControllerITest {
         performAndAssert(request, requestBuilder);
     }
 
+    @Test
+    void getAll_withMatchingETag_thenReturns304() throws Exception {
+        var eTag = "\"" + catalogVersion.current() + "\"";
+
+        mockMvc.perform(get(GAMES_BASE_PATH).header(IF_NONE_MATCH, eTag).accept(APPLICATION_JSON_VALUE))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void getAll_withMatchingETagAndInvalidCursor_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("after", "not a cursor")
+                .header(IF_NONE_MATCH, "\"" + catalogVersion.current() + "\"")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("The cursor [not a cursor] is not valid", requestBuilder);
+    }
+
+    @Test
+    void getAll_withMatchingETagAndEmptyCreationWindow_thenReturns4xx() throws Exception {
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("createdFrom", "2024-02-01T00:00:00Z")
+                .param("createdTo", "2024-01-01T00:00:00Z")
+                .header(IF_NONE_MATCH, "\"" + catalogVersion.current() + "\"")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("The filter is not valid: createdFrom must be before createdTo", requestBuilder);
+    }
+
+    @Test
+    void getAll_withMatchingETagAndCursorOfTheOtherOrder_thenReturns4xx() throws Exception {
+        var cursor = new GameCursor("Game", 7L).encode();
+        var requestBuilder = get(GAMES_BASE_PATH)
+                .param("after", cursor)
+                .param("active", "true")
+                .header(IF_NONE_MATCH, "\"" + catalogVersion.current() + "\"")
+                .accept(APPLICATION_JSON_VALUE);
+
+        performAndAssertErrors("The cursor [%s] is not valid".formatted(cursor), requestBuilder);
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void streamChanges_feedFull_thenReturns503() throws Exception {
+        when(changeFeed.subscribe()).thenThrow(new ChangeFeedFullException(1));
+
+        mockMvc.perform(get(GAMES_BASE_PATH + "/stream").accept(TEXT_EVENT_STREAM_VALUE, APPLICATION_JSON_VALUE))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string(containsString("The change feed already has 1 subscribers")));
+    }
+
+    @Test
+    void getGame_withMatchingETag_thenReturns304() throws Exception {
+        var request = createGameRequest();
+
+        when(gameService.getGameView(request.name())).thenReturn(new GameView(7L, request.name(), null, true, 3));
+
+        mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(request.name())).header(IF_NONE_MATCH, "\"7-3\"").accept(APPLICATION_JSON_VALUE))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"7-3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getGame_gzipWithIdentityETag_thenReturnsGzipBodyWithItsOwnETag() throws Exception {
+        var request = createGameRequest();
+
+        when(gameService.getGameView(request.name())).thenReturn(new GameView(7L, request.name(), null, true, 3));
+
+        mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(request.name())).header(IF_NONE_MATCH, "\"7-3\"")
+                        .header(ACCEPT_ENCODING, "gzip").accept(APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(ETAG, "\"7-3-gzip\""));
+        mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(request.name())).header(IF_NONE_MATCH, "\"7-3-gzip\"")
+                        .header(ACCEPT_ENCODING, "gzip").accept(APPLICATION_JSON_VALUE))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"7-3-gzip\""));
+    }
+
+    @Test
+    void getGame_acceptsGzip_thenReturnsCompressedBody() throws Exception {
+        var request = createGameRequest();
+        var game = createGameView();
+
+        when(gameService.getGameView(request.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        var body = mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(request.name())).header(ACCEPT_ENCODING, "gzip").accept(APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(VARY, ACCEPT, ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThatJson(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isObject()
+                    .containsEntry("name", request.name());
+        }
+    }
+
+    @Test
+    void getGame_acceptsSmile_thenReturnsSmileBody() throws Exception {
+        var request = createGameRequest();
+        var game = createGameView();
+
+        when(gameService.getGameView(request.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        var body = mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(request.name())).accept(SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE_VALUE))
+                .andExpect(header().string(ETAG, "\"%d-%d-smile\"".formatted(game.id(), game.version())))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(smileMapper().readValue(body, GameResponse.class)).isEqualTo(createGameResponse());
+    }
+
+    @Test
+    void getAll_acceptsCbor_thenReturnsCborBody() throws Exception {
+        var game = createGameView();
+
+        when(gameService.getGames(100, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), null));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        var body = mockMvc.perform(get(GAMES_BASE_PATH).accept(CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(cborMapper().readValue(body, GameResponse[].class)).containsExactly(createGameResponse());
+    }
+
+    @Test
+    void getGame_whenGameNameIsNotFound_thenReturnsErrorInRequestedFormat() throws Exception {
+        var gameName = "missing";
+
+        when(gameService.getGameView(gameName)).thenThrow(new GameNotFoundException(gameName));
+
+        var body = mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(gameName)).accept(CBOR_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(CBOR_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(cborMapper().readTree(body).at("/errors/0/errorMessage").asText())
+                .contains("Cannot find any game with Name [%s]".formatted(gameName));
+    }
+
+    @Test
+    void getGame_withStaleETag_thenReturns2xxWithCurrentETag() throws Exception {
+        var game = new GameView(7L, "Game name", null, true, 4);
+
+        when(gameService.getGameView(game.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        mockMvc.perform(get(GAME_ID_BASE_PATH.formatted(game.name())).header(IF_NONE_MATCH, "\"7-3\"").accept(APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(ETAG, "\"7-4\""));
+    }
+
     @Test
     void getGame_whenGameNameIsNotFound_thenReturns4xx() throws Exception {
         var request = createGameRequest();
 
-        doThrow(new GameNotFoundException(request.name())).when(gameService).getGame(request.name());
+        doThrow(new GameNotFoundException(request.name())).when(gameService).getGameView(request.name());
 
         var requestBuilder = get(GAME_ID_BASE_PATH.formatted(request.name()))
                 .accept(APPLICATION_JSON_VALUE)
@@ -128,6 +553,27 @@ class GameControllerITest {
         performAndAssert(request, requestBuilder);
     }
 
+    @Test
+    void post_whenSmileInput_thenReturnsSmile() throws Exception {
+        var request = createGameRequest();
+        var game = createGame();
+
+        when(gameService.saveGame(request)).thenReturn(game);
+        when(gameMapper.gameToGameResponse(game)).thenReturn(createGameResponse());
+
+        var body = mockMvc.perform(post(GAMES_BASE_PATH)
+                        .accept(SMILE_VALUE)
+                        .contentType(SMILE_VALUE)
+                        .content(smileMapper().writeValueAsBytes(request)))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(content().contentType(SMILE_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(smileMapper().readValue(body, GameResponse.class)).isEqualTo(createGameResponse());
+    }
+
     @ParameterizedTest(name = "{0}")
     @MethodSource("badRequests")
     void post_whenInvalidInput_thenReturns4xx(String scenario, String value, String expectedMessage) throws Exception {
@@ -207,11 +653,26 @@ class GameControllerITest {
                 .accept(APPLICATION_JSON_VALUE)
                 .contentType(APPLICATION_JSON_VALUE);
 
-        mockMvc.perform(requestBuilder)
+        perform(requestBuilder)
                 .andExpect(status()
                         .isNoContent());
     }
 
+    @Test
+    void put_whenRetriesAreExhausted_thenReturns409() throws Exception {
+        var request = createGameRequest();
+
+        doThrow(new ObjectOptimisticLockingFailureException(GameModel.class, 1L)).when(gameService).updateGame(request);
+
+        var requestBuilder = put(GAMES_BASE_PATH)
+                .accept(APPLICATION_JSON_VALUE)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString((request)));
+
+        perform(requestBuilder)
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void delete_whenGameNameIsNotFound_thenReturns4xx() throws Exception {
         var request = createGameRequest();
@@ -242,8 +703,16 @@ class GameControllerITest {
         );
     }
 
+    private ResultActions perform(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        var resultActions = mockMvc.perform(requestBuilder);
+        var mvcResult = resultActions.andReturn();
+        return mvcResult.getRequest().isAsyncStarted()
+                ? mockMvc.perform(asyncDispatch(mvcResult))
+                : resultActions;
+    }
+
     private void performAndAssert(GameRequest request, MockHttpServletRequestBuilder requestBuilder) throws Exception {
-        var mvcResult = mockMvc.perform(requestBuilder)
+        var mvcResult = perform(requestBuilder)
                 .andExpect(status()
                         .is2xxSuccessful())
                 .andReturn();
@@ -255,8 +724,16 @@ class GameControllerITest {
                 .containsEntry("dateOfCreation", request.dateOfCreation().toString());
     }
 
+    private ObjectMapper smileMapper() {
+        return smileHttpMessageConverter.getObjectMapper();
+    }
+
+    private ObjectMapper cborMapper() {
+        return cborHttpMessageConverter.getObjectMapper();
+    }
+
     private void performAndAssertErrors(String expectedMessage, MockHttpServletRequestBuilder requestBuilder) throws Exception {
-        var mvcResult = mockMvc.perform(requestBuilder)
+        var mvcResult = perform(requestBuilder)
                 .andExpect(status()
                         .is4xxClientError())
                 .andReturn();
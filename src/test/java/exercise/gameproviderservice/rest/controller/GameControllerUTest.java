@@ -1,71 +1,328 @@
 package exercise.gameproviderservice.rest.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GamePage;
+import exercise.gameproviderservice.domain.GameView;
 import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.config.ResponseCacheProperties;
 import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.rest.cache.EncodedResponseCache;
+import exercise.gameproviderservice.rest.cache.PayloadEncoder;
+import exercise.gameproviderservice.rest.feed.GameChangeFeed;
+import exercise.gameproviderservice.rest.payloads.PayloadFormat;
+import exercise.gameproviderservice.service.CatalogVersion;
+import exercise.gameproviderservice.service.ConflictRetrier;
 import exercise.gameproviderservice.service.GameService;
+import exercise.gameproviderservice.service.UpdateCoalescer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 import static exercise.gameproviderservice.fixtures.GameFixtures.createGame;
 import static exercise.gameproviderservice.fixtures.GameFixtures.createGameRequest;
 import static exercise.gameproviderservice.fixtures.GameFixtures.createGameResponse;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameView;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GameControllerUTest {
+    private static final int LIMIT = 10;
+
     @Mock
     private GameService gameService;
 
     @Mock
     private GameMapper gameMapper;
 
+    @Mock
+    private ConflictRetrier conflictRetrier;
+
+    @Mock
+    private UpdateCoalescer updateCoalescer;
+
+    @Mock
+    private GameChangeFeed changeFeed;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Spy
+    private EncodedResponseCache responseCache = new EncodedResponseCache(new ResponseCacheProperties(DataSize.ofMegabytes(1)));
+
+    @Spy
+    private PayloadEncoder payloadEncoder = new PayloadEncoder(objectMapper,
+            new MappingJackson2SmileHttpMessageConverter(), new MappingJackson2CborHttpMessageConverter());
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
     @InjectMocks
     private GameController testObj;
 
     @Test
-    void getGames_noParams_returnsAllEntries() {
-        var game = createGame();
+    void getGames_lastPage_returnsEntriesWithoutCursor() throws IOException {
+        var game = createGameView();
         var gameResponse = createGameResponse();
 
-        when(gameService.getGames()).thenReturn(List.of(game));
-        when(gameMapper.gameToGameResponse(game)).thenReturn(gameResponse);
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), null));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity<byte[]> actual = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"" + catalogVersion.current() + "\"");
+        assertThat(actual.getHeaders().containsKey(GameController.NEXT_CURSOR_HEADER)).isFalse();
+        assertThat(actual.getBody()).isEqualTo(objectMapper.writeValueAsBytes(List.of(gameResponse)));
+    }
+
+    @Test
+    void getGames_repeatedRequest_isServedFromTheResponseCache() {
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(), null));
+
+        var first = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+        var second = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        verify(gameService).getGames(LIMIT, null, GameFilter.NONE);
+    }
+
+    @Test
+    void getGames_afterCatalogChange_reloadsTheResponse() {
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(), null));
+
+        testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+        catalogVersion.onGameChanged(new GameChangedEvent(GameChangeType.CREATED, "game"));
+        testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        verify(gameService, times(2)).getGames(LIMIT, null, GameFilter.NONE);
+    }
+
+    @Test
+    void getGames_acceptsGzip_returnsCompressedBody() throws IOException {
+        var game = createGameView();
+        var gameResponse = createGameResponse();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8");
+
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), null));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity<byte[]> actual = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(actual.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"" + catalogVersion.current() + "-gzip\"");
+        assertThat(actual.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(actual.getBody()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(List.of(gameResponse)));
+        }
+    }
+
+    @Test
+    void getGames_acceptsSmile_returnsSmileBodyWithItsOwnETag() throws IOException {
+        var game = createGameView();
+        var gameResponse = createGameResponse();
+        request.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile");
+
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), null));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity<byte[]> actual = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(actual.getHeaders().getContentType()).isEqualTo(PayloadFormat.SMILE.mediaType());
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"" + catalogVersion.current() + "-smile\"");
+        assertThat(actual.getBody()).isEqualTo(payloadEncoder.encode(PayloadFormat.SMILE, List.of(gameResponse)));
+    }
+
+    @Test
+    void getGames_differentFormats_areCachedSeparately() {
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(), null));
+
+        var json = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+        var cbor = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(cbor.getHeaders().getContentType()).isEqualTo(PayloadFormat.CBOR.mediaType());
+        assertThat(cbor.getBody()).isNotEqualTo(json.getBody());
+        verify(gameService, times(2)).getGames(LIMIT, null, GameFilter.NONE);
+    }
+
+    @Test
+    void getGames_refusesGzip_returnsPlainBody() {
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(), null));
+
+        ResponseEntity<byte[]> actual = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(actual.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(new String(actual.getBody(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    void getGames_unchangedCatalog_returnsNotModified() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + catalogVersion.current() + "\"");
+
+        ResponseEntity actual = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void getGames_changedCatalog_returnsEntries() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + catalogVersion.current() + "\"");
+        catalogVersion.onGameChanged(new GameChangedEvent(GameChangeType.CREATED, "game"));
+
+        when(gameService.getGames(LIMIT, null, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(), null));
+
+        ResponseEntity actual = testObj.getGames(LIMIT, null, null, null, null, null, webRequest);
 
-        ResponseEntity actual = testObj.getGames();
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"" + catalogVersion.current() + "\"");
+    }
+
+    @Test
+    void getGames_morePages_returnsEntriesWithNextCursor() throws IOException {
+        var game = createGameView();
+        var gameResponse = createGameResponse();
+        var after = new GameCursor("A game", 1L);
+        var next = new GameCursor(game.name(), 2L);
 
-        assertThat(actual).isEqualTo(ResponseEntity.ok(List.of(gameResponse)));
+        when(gameService.getGames(LIMIT, after, GameFilter.NONE)).thenReturn(new GamePage<>(List.of(game), next));
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity<byte[]> actual = testObj.getGames(LIMIT, after.encode(), null, null, null, null, webRequest);
+
+        assertThat(actual.getBody()).isEqualTo(objectMapper.writeValueAsBytes(List.of(gameResponse)));
+        assertThat(actual.getHeaders().getFirst(GameController.NEXT_CURSOR_HEADER)).isEqualTo(next.encode());
     }
 
     @Test
     void getGames_somethingWentWrong_returnsInternalServerError() {
         var exception = new RuntimeException("Error");
 
-        doThrow(exception).when(gameService).getGames();
-        assertThatThrownBy(() ->  testObj.getGames())
+        doThrow(exception).when(gameService).getGames(LIMIT, null, GameFilter.NONE);
+        assertThatThrownBy(() ->  testObj.getGames(LIMIT, null, null, null, null, null, webRequest))
                 .isSameAs(exception);
     }
 
     @Test
-    void getGame_gameName_returnsTheGame() {
-        var game = createGame();
+    void exportGames_writesOneJsonLinePerGame() throws IOException {
+        var game = createGameView();
         var gameResponse = createGameResponse();
-        var gameName = UUID.randomUUID().toString();
+        var outputStream = new ByteArrayOutputStream();
 
-        when(gameService.getGame(gameName)).thenReturn(game);
-        when(gameMapper.gameToGameResponse(game)).thenReturn(gameResponse);
+        doAnswer(invocation -> {
+            Consumer<GameView> consumer = invocation.getArgument(0);
+            consumer.accept(game);
+            consumer.accept(game);
+            return null;
+        }).when(gameService).exportGames(any());
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
 
-        ResponseEntity actual = testObj.getGame(gameName);
+        testObj.exportGames().getBody().writeTo(outputStream);
 
-        assertThat(actual).isEqualTo(ResponseEntity.ok(gameResponse));
+        var line = objectMapper.writeValueAsString(gameResponse);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(line + "\n" + line + "\n");
+    }
+
+    @Test
+    void getGame_gameName_returnsTheGame() throws IOException {
+        var game = createGameView();
+        var gameResponse = createGameResponse();
+
+        when(gameService.getGameView(game.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity<byte[]> actual = testObj.getGame(game.name(), webRequest);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"1-0\"");
+        assertThat(actual.getBody()).isEqualTo(objectMapper.writeValueAsBytes(gameResponse));
+    }
+
+    @Test
+    void getGame_repeatedRequest_isServedFromTheResponseCache() {
+        var game = createGameView();
+
+        when(gameService.getGameView(game.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(createGameResponse());
+
+        testObj.getGame(game.name(), webRequest);
+        testObj.getGame(game.name(), webRequest);
+
+        verify(gameService).getGameView(game.name());
+        verify(gameMapper).gameViewToGameResponse(game);
+    }
+
+    @Test
+    void getGame_unchangedVersion_returnsNotModified() {
+        var game = new GameView(7L, "Game name", null, true, 3);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"7-3\"");
+
+        when(gameService.getGameView(game.name())).thenReturn(game);
+
+        ResponseEntity<byte[]> actual = testObj.getGame(game.name(), webRequest);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"7-3\"");
+        assertThat(actual.getBody()).isNull();
+    }
+
+    @Test
+    void getGame_changedVersion_returnsTheGame() throws IOException {
+        var game = new GameView(7L, "Game name", null, true, 4);
+        var gameResponse = createGameResponse();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"7-3\"");
+
+        when(gameService.getGameView(game.name())).thenReturn(game);
+        when(gameMapper.gameViewToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity<byte[]> actual = testObj.getGame(game.name(), webRequest);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"7-4\"");
+        assertThat(actual.getBody()).isEqualTo(objectMapper.writeValueAsBytes(gameResponse));
     }
 
     @Test
@@ -73,8 +330,8 @@ class GameControllerUTest {
         var gameName = UUID.randomUUID().toString();
         var exception = new RuntimeException("Error");
 
-        doThrow(exception).when(gameService).getGame(gameName);
-        assertThatThrownBy(() ->  testObj.getGame(gameName))
+        doThrow(exception).when(gameService).getGameView(gameName);
+        assertThatThrownBy(() ->  testObj.getGame(gameName, webRequest))
                 .isSameAs(exception);
     }
 
@@ -83,8 +340,8 @@ class GameControllerUTest {
         var gameName = UUID.randomUUID().toString();
         var exception = new GameNotFoundException("Not found");
 
-        doThrow(exception).when(gameService).getGame(gameName);
-        assertThatThrownBy(() ->  testObj.getGame(gameName))
+        doThrow(exception).when(gameService).getGameView(gameName);
+        assertThatThrownBy(() ->  testObj.getGame(gameName, webRequest))
                 .isSameAs(exception);
     }
 
@@ -118,10 +375,11 @@ class GameControllerUTest {
         var gameResponse = createGameResponse();
         var gameRequest = createGameRequest();
 
+        runWithoutRetries();
         when(gameService.updateGame(gameRequest)).thenReturn(game);
         when(gameMapper.gameToGameResponse(game)).thenReturn(gameResponse);
 
-        ResponseEntity actual = testObj.updateGame(createGameRequest());
+        ResponseEntity actual = testObj.updateGame(createGameRequest()).join();
         assertThat(actual).isEqualTo(ResponseEntity.ok(gameResponse));
     }
 
@@ -130,15 +388,52 @@ class GameControllerUTest {
         var gameRequest = createGameRequest();
         var exception = new RuntimeException("Error");
 
+        runWithoutRetries();
         doThrow(exception).when(gameService).updateGame(gameRequest);
 
-        assertThatThrownBy(() ->  testObj.updateGame(createGameRequest()))
-                .isSameAs(exception);
+        assertThatThrownBy(() ->  testObj.updateGame(createGameRequest()).join())
+                .hasCause(exception);
+    }
+
+    @Test
+    void updateGame_retriesThroughConflictRetrier() {
+        var gameRequest = createGameRequest();
+
+        when(conflictRetrier.execute(eq("update"), any())).thenReturn(new CompletableFuture<>());
+
+        assertThat(testObj.updateGame(gameRequest)).isNotDone();
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void updateGame_coalescingEnabled_updatesThroughTheCoalescer() {
+        var game = createGame();
+        var gameResponse = createGameResponse();
+        var gameRequest = createGameRequest();
+
+        when(updateCoalescer.isEnabled()).thenReturn(true);
+        when(updateCoalescer.update(gameRequest)).thenReturn(CompletableFuture.completedFuture(game));
+        when(gameMapper.gameToGameResponse(game)).thenReturn(gameResponse);
+
+        ResponseEntity actual = testObj.updateGame(gameRequest).join();
+
+        assertThat(actual).isEqualTo(ResponseEntity.ok(gameResponse));
+        verifyNoInteractions(conflictRetrier, gameService);
+    }
+
+    @Test
+    void streamChanges_subscribesToTheChangeFeed() {
+        var emitter = new SseEmitter();
+        when(changeFeed.subscribe()).thenReturn(emitter);
+
+        assertThat(testObj.streamChanges()).isSameAs(emitter);
     }
 
     @Test
     void deleteGame_gameName_successfullyDeletesGame() {
-        ResponseEntity actual = testObj.deleteGame(UUID.randomUUID().toString());
+        runWithoutRetries();
+
+        ResponseEntity actual = testObj.deleteGame(UUID.randomUUID().toString()).join();
         assertThat(actual).isEqualTo(ResponseEntity.noContent().build());
     }
 
@@ -148,10 +443,11 @@ class GameControllerUTest {
 
         var exception = new RuntimeException("Error");
 
+        runWithoutRetries();
         doThrow(exception).when(gameService).deleteGame(gameName);
 
-        assertThatThrownBy(() ->  testObj.deleteGame(gameName))
-                .isSameAs(exception);
+        assertThatThrownBy(() ->  testObj.deleteGame(gameName).join())
+                .hasCause(exception);
     }
 
     @Test
@@ -159,4 +455,14 @@ class GameControllerUTest {
 //        ResponseEntity actual = testObj.deleteGame(UUID.randomUUID().toString());
 //        assertThat(actual).isNull();
     }
+
+    private void runWithoutRetries() {
+        when(conflictRetrier.execute(any(), any())).thenAnswer(invocation -> {
+            try {
+                return CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
 }
@@ -0,0 +1,209 @@
+package exercise.gameproviderservice.rest.feed;
+
+import exercise.gameproviderservice.config.ChangeFeedProperties;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.exception.ChangeFeedFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameChangeFeedUTest {
+
+    private static final int BUFFER_SIZE = 2;
+    private static final int MAX_SUBSCRIBERS = 3;
+
+    private final HeldExecutor executor = new HeldExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameChangeFeed testObj = new GameChangeFeed(
+            new ChangeFeedProperties(BUFFER_SIZE, MAX_SUBSCRIBERS, Duration.ofMinutes(1)), executor, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        testObj.shutdown();
+    }
+
+    @Test
+    void onGameChanged_withinTheBuffer_schedulesOneDrainPerSubscriber() {
+        testObj.subscribe();
+        testObj.subscribe();
+
+        publish(BUFFER_SIZE);
+
+        assertThat(executor.tasks).hasSize(2);
+        assertThat(subscribers()).isEqualTo(2);
+        assertThat(disconnected()).isZero();
+    }
+
+    @Test
+    void onGameChanged_subscriberLaggingBeyondTheBuffer_isDisconnected() {
+        testObj.subscribe();
+
+        publish(BUFFER_SIZE + 5);
+
+        assertThat(subscribers()).isZero();
+        assertThat(disconnected()).isEqualTo(1);
+    }
+
+    @Test
+    void onGameChanged_slowSubscriber_doesNotAffectTheOthers() {
+        testObj.subscribe();
+        publish(BUFFER_SIZE);
+        testObj.subscribe();
+
+        publish(1);
+
+        assertThat(subscribers()).isEqualTo(1);
+        assertThat(disconnected()).isEqualTo(1);
+    }
+
+    @Test
+    void onGameChanged_bulkWriteLargerThanTheBuffer_takesOneSlot() {
+        testObj.subscribe();
+        var gameNames = IntStream.range(0, 500).mapToObj(i -> "game" + i).toList();
+
+        testObj.onGameChanged(new GameChangedEvent(GameChangeType.CREATED, gameNames));
+
+        assertThat(executor.tasks).hasSize(1);
+        assertThat(subscribers()).isEqualTo(1);
+        assertThat(disconnected()).isZero();
+    }
+
+    @Test
+    void onGameChanged_stalledSubscriber_doesNotStarveTheOthers() throws Exception {
+        var properties = new ChangeFeedProperties(BUFFER_SIZE, MAX_SUBSCRIBERS, Duration.ofMinutes(1));
+        var feedMeterRegistry = new SimpleMeterRegistry();
+        var feed = new GameChangeFeed(properties,
+                GameChangeFeed.newDrainExecutor(properties, Executors.defaultThreadFactory()), feedMeterRegistry);
+        var stalled = new StalledEmitter();
+        var healthy = new CountingEmitter();
+        feed.subscribe(stalled);
+        feed.subscribe(healthy);
+
+        try {
+            feed.onGameChanged(new GameChangedEvent(GameChangeType.UPDATED, "game"));
+            assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(healthy.sent.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < BUFFER_SIZE + 5; i++) {
+                feed.onGameChanged(new GameChangedEvent(GameChangeType.UPDATED, "game" + i));
+                assertThat(healthy.sent.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+            }
+
+            assertThat(feedMeterRegistry.get(GameChangeFeed.DISCONNECTED_METRIC).counter().count()).isEqualTo(1);
+            assertThat(feedMeterRegistry.get(GameChangeFeed.SUBSCRIBERS_METRIC).gauge().value()).isEqualTo(1);
+        } finally {
+            stalled.released.countDown();
+            feed.shutdown();
+        }
+    }
+
+    @Test
+    void onGameChanged_refresh_isNotPushed() {
+        testObj.subscribe();
+
+        testObj.onGameChanged(new GameChangedEvent(GameChangeType.UPDATED, "game").asRefresh());
+
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    void subscribe_beyondMaxSubscribers_fails() {
+        for (int i = 0; i < MAX_SUBSCRIBERS; i++) {
+            testObj.subscribe();
+        }
+
+        assertThatThrownBy(testObj::subscribe).isInstanceOf(ChangeFeedFullException.class);
+        assertThat(subscribers()).isEqualTo(MAX_SUBSCRIBERS);
+    }
+
+    private void publish(int changes) {
+        for (int i = 0; i < changes; i++) {
+            testObj.onGameChanged(new GameChangedEvent(GameChangeType.UPDATED, "game" + i));
+        }
+    }
+
+    private double subscribers() {
+        return meterRegistry.get(GameChangeFeed.SUBSCRIBERS_METRIC).gauge().value();
+    }
+
+    private double disconnected() {
+        return meterRegistry.get(GameChangeFeed.DISCONNECTED_METRIC).counter().count();
+    }
+
+    /**
+     * Blocks in its first send until released, like a client whose socket stopped draining.
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+        private final Semaphore sent = new Semaphore(0);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.release();
+        }
+    }
+
+    /**
+     * Never runs what it is given, standing in for a client that stopped reading.
+     */
+    private static final class HeldExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return tasks;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package exercise.gameproviderservice.rest.payloads;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadFormatUTest {
+
+    @Test
+    void negotiate_noAcceptHeader_returnsJson() {
+        assertThat(PayloadFormat.negotiate(null)).isEqualTo(PayloadFormat.JSON);
+        assertThat(PayloadFormat.negotiate("*/*")).isEqualTo(PayloadFormat.JSON);
+    }
+
+    @Test
+    void negotiate_binaryFormat_returnsIt() {
+        assertThat(PayloadFormat.negotiate("application/x-jackson-smile")).isEqualTo(PayloadFormat.SMILE);
+        assertThat(PayloadFormat.negotiate("application/cbor")).isEqualTo(PayloadFormat.CBOR);
+    }
+
+    @Test
+    void negotiate_severalFormats_honoursQuality() {
+        assertThat(PayloadFormat.negotiate("application/json;q=0.5, application/cbor")).isEqualTo(PayloadFormat.CBOR);
+        assertThat(PayloadFormat.negotiate("application/cbor;q=0, application/*")).isEqualTo(PayloadFormat.JSON);
+    }
+
+    @Test
+    void tag_binaryFormat_suffixesTheETag() {
+        assertThat(PayloadFormat.JSON.tag("\"7-4\"")).isEqualTo("\"7-4\"");
+        assertThat(PayloadFormat.SMILE.tag("\"7-4\"")).isEqualTo("\"7-4-smile\"");
+        assertThat(PayloadFormat.CBOR.tag("\"7-4\"")).isEqualTo("\"7-4-cbor\"");
+    }
+}
@@ -0,0 +1,72 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest(properties = "game-provider.snapshot.enabled=true")
+class CatalogSnapshotITest {
+
+    @Autowired
+    private GameService gameService;
+
+    @SpyBean
+    private GameRepository gameRepository;
+
+    @Test
+    void reads_afterEachWrite_areServedFromTheSnapshot() {
+        var gameName = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        gameService.saveGame(new GameRequest(gameName, dateOfCreation, true));
+        clearInvocations(gameRepository);
+        assertThat(gameService.getGameView(gameName).active()).isTrue();
+
+        gameService.updateGame(new GameRequest(gameName, dateOfCreation, false));
+        clearInvocations(gameRepository);
+        var updated = gameService.getGameView(gameName);
+        assertThat(updated.active()).isFalse();
+        assertThat(updated.version()).isEqualTo(1);
+        assertThat(gameService.getGames(100, null, GameFilter.NONE).games()).contains(updated);
+
+        gameService.deleteGame(gameName);
+        clearInvocations(gameRepository);
+        assertThatThrownBy(() -> gameService.getGameView(gameName))
+                .isInstanceOf(GameNotFoundException.class);
+
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void bulkWrite_reloadsItsGamesWithOneQuery() {
+        var gameNames = IntStream.range(0, 20).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        gameService.saveGames(gameNames.stream().map(name -> new GameRequest(name, Instant.now(), true)).toList());
+        clearInvocations(gameRepository);
+
+        gameService.updateGames(new BulkUpdateRequest(gameNames, null, false));
+
+        verify(gameRepository, times(1)).findViewsByNameIn(any());
+        verify(gameRepository, never()).findViewByName(any());
+        assertThat(gameNames).allSatisfy(name -> assertThat(gameService.getGameView(name).active()).isFalse());
+    }
+}
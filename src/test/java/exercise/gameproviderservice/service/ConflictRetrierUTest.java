@@ -0,0 +1,130 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.ConflictRetryProperties;
+import exercise.gameproviderservice.domain.GameModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConflictRetrierUTest {
+
+    private static final String OPERATION = "update";
+    private static final String TASK_THREAD_PREFIX = "task-";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService taskExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory(TASK_THREAD_PREFIX));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConflictRetrier testObj = new ConflictRetrier(
+            new ConflictRetryProperties(3, Duration.ofMillis(10), Duration.ofMillis(40), 2, 1), scheduler, taskExecutor,
+            meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        taskExecutor.shutdownNow();
+    }
+
+    @Test
+    void execute_noConflict_completesOnCallingThread() {
+        var actual = testObj.execute(OPERATION, () -> "done");
+
+        assertThat(actual).isCompletedWithValue("done");
+        assertThat(meterRegistry.find(ConflictRetrier.RETRIES_METRIC).counter()).isNull();
+    }
+
+    @Test
+    void execute_conflictThenSuccess_retriesAsynchronously() {
+        var attempts = new AtomicInteger();
+
+        var actual = testObj.execute(OPERATION, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(GameModel.class, 1L);
+            }
+            return "done";
+        });
+
+        assertThat(actual.join()).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get(ConflictRetrier.RETRIES_METRIC).tag("operation", OPERATION).counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void execute_conflict_retriesOnTheTaskExecutor() {
+        var threads = new CopyOnWriteArrayList<String>();
+
+        var actual = testObj.execute(OPERATION, () -> {
+            threads.add(Thread.currentThread().getName());
+            if (threads.size() == 1) {
+                throw new ObjectOptimisticLockingFailureException(GameModel.class, 1L);
+            }
+            return "done";
+        });
+
+        assertThat(actual.join()).isEqualTo("done");
+        assertThat(threads.get(1)).startsWith(TASK_THREAD_PREFIX);
+    }
+
+    @Test
+    void execute_conflictAfterShutdown_failsInsteadOfHanging() {
+        scheduler.shutdown();
+
+        var actual = testObj.execute(OPERATION, () -> {
+            throw new ObjectOptimisticLockingFailureException(GameModel.class, 1L);
+        });
+
+        assertThat(actual).isCompletedExceptionally();
+        assertThatThrownBy(actual::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void execute_conflictOnEveryAttempt_givesUp() {
+        var conflict = new ObjectOptimisticLockingFailureException(GameModel.class, 1L);
+        var attempts = new AtomicInteger();
+
+        var actual = testObj.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw conflict;
+        });
+
+        assertThatThrownBy(actual::join).hasCause(conflict);
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get(ConflictRetrier.GIVE_UPS_METRIC).tag("operation", OPERATION).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void execute_otherFailure_isNotRetried() {
+        var exception = new IllegalStateException("Error");
+        var attempts = new AtomicInteger();
+
+        var actual = testObj.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw exception;
+        });
+
+        assertThatThrownBy(actual::join).hasCause(exception);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void backoffMillis_isJitteredAndCapped() {
+        assertThat(testObj.backoffMillis(1)).isBetween(5L, 10L);
+        assertThat(testObj.backoffMillis(2)).isBetween(10L, 20L);
+        assertThat(testObj.backoffMillis(10)).isBetween(20L, 40L);
+    }
+}
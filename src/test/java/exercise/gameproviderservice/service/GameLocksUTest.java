@@ -0,0 +1,74 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.GameLockProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameLocksUTest {
+
+    private static final String GAME_NAME = "gameName";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void withLock_sameGame_runsOneAtATime() throws Exception {
+        var testObj = new GameLocks(new GameLockProperties(true, 8), meterRegistry);
+        var holding = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        var first = CompletableFuture.runAsync(() -> testObj.withLock(GAME_NAME, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            holding.countDown();
+            await(release);
+            return running.decrementAndGet();
+        }));
+        holding.await(1, TimeUnit.SECONDS);
+        var second = CompletableFuture.runAsync(() -> testObj.withLock(GAME_NAME, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return running.decrementAndGet();
+        }));
+
+        while (meterRegistry.counter(GameLocks.CONTENDED_METRIC).count() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+
+        assertThat(maxRunning).hasValue(1);
+        assertThat(meterRegistry.timer(GameLocks.WAIT_METRIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    void withLock_uncontended_recordsNoContention() {
+        var testObj = new GameLocks(new GameLockProperties(true, 8), meterRegistry);
+
+        assertThat(testObj.withLock(GAME_NAME, () -> "done")).isEqualTo("done");
+        assertThat(meterRegistry.counter(GameLocks.CONTENDED_METRIC).count()).isZero();
+    }
+
+    @Test
+    void withLock_disabled_runsTheActionWithoutLocking() {
+        var testObj = new GameLocks(new GameLockProperties(false, 8), meterRegistry);
+
+        var actual = testObj.withLock(GAME_NAME, () -> testObj.withLock(GAME_NAME, () -> "nested"));
+
+        assertThat(actual).isEqualTo("nested");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
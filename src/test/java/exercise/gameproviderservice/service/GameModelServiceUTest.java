@@ -1,26 +1,60 @@
 package exercise.gameproviderservice.service;
 
+import exercise.gameproviderservice.config.GameLockProperties;
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.BatchItemStatus;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GameDelta;
+import exercise.gameproviderservice.domain.GameFilter;
 import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GamePage;
+import exercise.gameproviderservice.domain.GameSnapshot;
+import exercise.gameproviderservice.domain.GameView;
 import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
 import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.domain.exception.InvalidCursorException;
 import exercise.gameproviderservice.mapper.GameMapper;
+import exercise.gameproviderservice.repository.GameChangeRepository;
 import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
 import exercise.gameproviderservice.rest.payloads.GameRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static exercise.gameproviderservice.fixtures.GameFixtures.prefixFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,9 +65,27 @@ class GameModelServiceUTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private GameChangeRepository gameChangeRepository;
+
     @Mock
     private GameMapper gameMapper;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private GameChangeLog changeLog;
+
+    @Spy
+    private GameLocks gameLocks = new GameLocks(new GameLockProperties(true, 4), new SimpleMeterRegistry());
+
     @InjectMocks
     private GameService testObj;
 
@@ -42,12 +94,18 @@ class GameModelServiceUTest {
         GameRequest gameRequest = mock(GameRequest.class);
         GameModel gameModel = mock(GameModel.class);
 
-        when(gameRepository.save(gameModel)).thenReturn(gameModel);
+        runTransactionsInline();
+
+        when(gameRepository.saveAndFlush(gameModel)).thenReturn(gameModel);
         when(gameMapper.gameRequestToGame(gameRequest)).thenReturn(gameModel);
+        when(gameModel.getName()).thenReturn(GAME_NAME);
 
         GameModel actual = testObj.saveGame(gameRequest);
 
         assertThat(actual).isEqualTo(gameModel);
+        verify(gameRepository, never()).findByName(any());
+        verify(changeLog).append(GameChangeType.CREATED, List.of(GAME_NAME));
+        verify(eventPublisher).publishEvent(new GameChangedEvent(GameChangeType.CREATED, GAME_NAME));
     }
 
     @Test
@@ -56,8 +114,10 @@ class GameModelServiceUTest {
         GameModel gameModel = mock(GameModel.class);
         RuntimeException exception = new RuntimeException("Exception");
 
+        runTransactionsInline();
+
         when(gameMapper.gameRequestToGame(gameRequest)).thenReturn(gameModel);
-        doThrow(exception).when(gameRepository).save(gameModel);
+        doThrow(exception).when(gameRepository).saveAndFlush(gameModel);
 
         assertThatThrownBy(() ->  testObj.saveGame(gameRequest))
                 .isSameAs(exception);
@@ -68,14 +128,113 @@ class GameModelServiceUTest {
         GameRequest gameRequest = mock(GameRequest.class);
         GameModel gameModel = mock(GameModel.class);
         GameAlreadyExistsException exception = new GameAlreadyExistsException(GAME_NAME);
+        var violation = new ConstraintViolationException("Unique index violated", null,
+                "PUBLIC.UK_GAME_MODEL_NAME_INDEX_2 ON PUBLIC.GAME_MODEL(NAME NULLS FIRST)");
+
+        runTransactionsInline();
 
         when(gameRequest.name()).thenReturn(GAME_NAME);
-        when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.of(gameModel));
+        when(gameMapper.gameRequestToGame(gameRequest)).thenReturn(gameModel);
+        doThrow(new DataIntegrityViolationException("Duplicate", violation)).when(gameRepository).saveAndFlush(gameModel);
 
         assertThatThrownBy(() ->  testObj.saveGame(gameRequest))
                 .hasMessageContaining(exception.getMessage());
     }
 
+    @Test
+    void saveGame_otherIntegrityViolation_fails() {
+        GameRequest gameRequest = mock(GameRequest.class);
+        GameModel gameModel = mock(GameModel.class);
+        var exception = new DataIntegrityViolationException("Null name",
+                new ConstraintViolationException("Null not allowed", null, null));
+
+        runTransactionsInline();
+
+        when(gameMapper.gameRequestToGame(gameRequest)).thenReturn(gameModel);
+        doThrow(exception).when(gameRepository).saveAndFlush(gameModel);
+
+        assertThatThrownBy(() ->  testObj.saveGame(gameRequest))
+                .isSameAs(exception);
+    }
+
+    @Test
+    void saveGames_existingAndRepeatedNames_areReportedPerItem() {
+        GameRequest existing = new GameRequest("existing", null, true);
+        GameRequest created = new GameRequest("new", null, true);
+        GameModel gameModel = new GameModel("new", null, true);
+
+        runBatchTransactionsInline();
+
+        when(gameRepository.findNamesIn(List.of("existing", "new", "new"))).thenReturn(Set.of("existing"));
+        when(gameMapper.gameRequestToGame(created)).thenReturn(gameModel);
+
+        List<BatchItemResult> actual = testObj.saveGames(List.of(existing, created, created));
+
+        assertThat(actual).containsExactly(
+                BatchItemResult.of("existing", BatchItemStatus.ALREADY_EXISTS),
+                new BatchItemResult("new", BatchItemStatus.CREATED, gameModel),
+                BatchItemResult.of("new", BatchItemStatus.ALREADY_EXISTS));
+        verify(gameRepository).saveAllAndFlush(List.of(gameModel));
+        verify(changeLog).append(GameChangeType.CREATED, List.of("new"));
+    }
+
+    @Test
+    void saveGames_concurrentInsert_fallsBackToSingleInserts() {
+        GameRequest first = new GameRequest("first", null, true);
+        GameRequest second = new GameRequest("second", null, true);
+        GameModel firstModel = new GameModel("first", null, true);
+        GameModel secondModel = new GameModel("second", null, true);
+        var duplicate = new DataIntegrityViolationException("Duplicate",
+                new ConstraintViolationException("Unique index violated", null, "PUBLIC.UK_GAME_MODEL_NAME"));
+
+        runBatchTransactionsInline();
+
+        when(gameRepository.findNamesIn(List.of("first", "second"))).thenReturn(Set.of());
+        when(gameMapper.gameRequestToGame(first)).thenReturn(firstModel);
+        when(gameMapper.gameRequestToGame(second)).thenReturn(secondModel);
+        doThrow(duplicate).when(gameRepository).saveAllAndFlush(List.of(firstModel, secondModel));
+        when(gameRepository.saveAndFlush(firstModel)).thenReturn(firstModel);
+        doThrow(duplicate).when(gameRepository).saveAndFlush(secondModel);
+
+        List<BatchItemResult> actual = testObj.saveGames(List.of(first, second));
+
+        assertThat(actual).containsExactly(
+                new BatchItemResult("first", BatchItemStatus.CREATED, firstModel),
+                BatchItemResult.of("second", BatchItemStatus.ALREADY_EXISTS));
+    }
+
+    @Test
+    void updateGames_existingAndMissingNames_areReportedPerName() {
+        var bulkUpdateRequest = new BulkUpdateRequest(List.of("existing", "missing", "existing"), null, false);
+
+        runTransactionsInline();
+        when(gameRepository.findNamesIn(List.of("existing", "missing"))).thenReturn(Set.of("existing"));
+
+        List<BatchItemResult> actual = testObj.updateGames(bulkUpdateRequest);
+
+        assertThat(actual).containsExactly(
+                BatchItemResult.of("existing", BatchItemStatus.UPDATED),
+                BatchItemResult.of("missing", BatchItemStatus.NOT_FOUND));
+        verify(gameRepository).updateAllByNameIn(Set.of("existing"), false, null);
+        verify(changeLog).append(GameChangeType.UPDATED, Set.of("existing"));
+        verify(eventPublisher).publishEvent(new GameChangedEvent(GameChangeType.UPDATED, "existing"));
+    }
+
+    @Test
+    void deleteGames_manyNames_runsOneTransactionPerChunk() {
+        var gameNames = IntStream.range(0, GameService.BULK_CHUNK_SIZE + 1).mapToObj(String::valueOf).toList();
+
+        runTransactionsInline();
+        when(gameRepository.findNamesIn(any())).thenReturn(Set.of());
+
+        List<BatchItemResult> actual = testObj.deleteGames(gameNames);
+
+        assertThat(actual).hasSize(gameNames.size())
+                .allMatch(result -> result.status() == BatchItemStatus.NOT_FOUND);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(gameRepository, never()).deleteAllByNameIn(any());
+    }
+
     @Test
     void getGame_success() {
         GameModel gameModel = mock(GameModel.class);
@@ -108,39 +267,231 @@ class GameModelServiceUTest {
     }
 
     @Test
-    void getGames_success() {
-        GameModel gameModel = mock(GameModel.class);
-        List<GameModel> gameModelList = List.of(gameModel);
+    void getGameView_success() {
+        GameView gameView = new GameView(1L, GAME_NAME, null, true, 0);
+
+        when(gameRepository.findViewByName(GAME_NAME)).thenReturn(Optional.of(gameView));
+
+        GameView actual = testObj.getGameView(GAME_NAME);
+
+        assertThat(actual).isEqualTo(gameView);
+    }
+
+    @Test
+    void getGameView_gameNotFound_fails() {
+        GameNotFoundException exception = new GameNotFoundException(GAME_NAME);
+        when(gameRepository.findViewByName(GAME_NAME)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() ->  testObj.getGameView(GAME_NAME))
+                .hasMessageContaining(exception.getMessage());
+    }
+
+    @Test
+    void getGames_firstPage_success() {
+        GameView gameView = new GameView(1L, "a", null, true, 0);
+        List<GameView> gameViewList = List.of(gameView);
+
+        when(gameRepository.findAllViews(PageRequest.of(0, 3))).thenReturn(gameViewList);
+
+        GamePage<GameView> actual = testObj.getGames(2, null, GameFilter.NONE);
+
+        assertThat(actual.games()).isEqualTo(gameViewList);
+        assertThat(actual.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void getGames_afterCursor_returnsNextCursor() {
+        GameView first = new GameView(1L, "a", null, true, 0);
+        GameView second = new GameView(2L, "b", null, true, 0);
+        GameView third = new GameView(3L, "c", null, true, 0);
+        GameCursor after = new GameCursor("0", 7L);
 
-        when(gameRepository.findAll()).thenReturn(gameModelList);
+        when(gameRepository.findAllViewsAfter("0", 7L, PageRequest.of(0, 3))).thenReturn(List.of(first, second, third));
 
-        List<GameModel> actual = testObj.getGames();
+        GamePage<GameView> actual = testObj.getGames(2, after, GameFilter.NONE);
 
-        assertThat(actual).isEqualTo(gameModelList);
+        assertThat(actual.games()).containsExactly(first, second);
+        assertThat(actual.nextCursor()).contains(new GameCursor("b", 2L));
+    }
+
+    @Test
+    void getGames_withFilter_queriesTheFilteredViews() {
+        GameView first = new GameView(1L, "abc", null, true, 0);
+        GameView second = new GameView(2L, "abd", null, true, 0);
+
+        when(gameRepository.findViews(prefixFilter("ab"), null, 2)).thenReturn(List.of(first, second));
+
+        GamePage<GameView> actual = testObj.getGames(1, null, prefixFilter("ab"));
+
+        assertThat(actual.games()).containsExactly(first);
+        assertThat(actual.nextCursor()).contains(new GameCursor("abc", 1L));
+    }
+
+    @Test
+    void getGames_withFilterAfterCursor_resumesAfterTheCursor() {
+        GameView second = new GameView(2L, "abd", null, true, 0);
+
+        when(gameRepository.findViews(prefixFilter("ab"), new GameCursor("abc", 1L), 2)).thenReturn(List.of(second));
+
+        GamePage<GameView> actual = testObj.getGames(1, new GameCursor("abc", 1L), prefixFilter("ab"));
+
+        assertThat(actual.games()).containsExactly(second);
+        assertThat(actual.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void getGames_creationOrderedFilter_pagesByCreation() {
+        var filter = new GameFilter(null, true, null, null);
+        GameView first = new GameView(7L, "zulu", Instant.parse("2024-01-01T00:00:00Z"), true, 0);
+        GameView second = new GameView(3L, "alpha", Instant.parse("2024-01-02T00:00:00Z"), true, 0);
+
+        when(gameRepository.findViews(filter, null, 2)).thenReturn(List.of(first, second));
+
+        GamePage<GameView> actual = testObj.getGames(1, null, filter);
+
+        assertThat(actual.games()).containsExactly(first);
+        assertThat(actual.nextCursor()).contains(GameCursor.byCreation(first));
+    }
+
+    @Test
+    void getGames_cursorOfTheOtherOrder_fails() {
+        var filter = new GameFilter(null, true, null, null);
+
+        assertThatThrownBy(() -> testObj.getGames(1, new GameCursor("abc", 1L), filter))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
     void getGames_fails() {
         RuntimeException exception = new RuntimeException("Exception");
 
-        doThrow(exception).when(gameRepository).findAll();
+        doThrow(exception).when(gameRepository).findAllViews(PageRequest.of(0, 3));
 
-        assertThatThrownBy(() ->  testObj.getGames())
+        assertThatThrownBy(() ->  testObj.getGames(2, null, GameFilter.NONE))
                 .isSameAs(exception);
     }
 
+    @Test
+    void getChanges_moreThanLimit_returnsAPageToContinueFrom() {
+        var first = new GameDelta(4L, GameChangeType.UPDATED, "a", null, true);
+        var second = new GameDelta(7L, GameChangeType.DELETED, "b", null, null);
+        var third = new GameDelta(9L, GameChangeType.CREATED, "c", null, false);
+
+        when(gameChangeRepository.findDeltasAfter(3L, PageRequest.of(0, 3))).thenReturn(List.of(first, second, third));
+
+        var actual = testObj.getChanges(3L, 2);
+
+        assertThat(actual.changes()).containsExactly(first, second);
+        assertThat(actual.hasMore()).isTrue();
+        assertThat(actual.lastSequence()).isEqualTo(7L);
+    }
+
+    @Test
+    void getChanges_inSync_returnsTheSameSequence() {
+        when(gameChangeRepository.findDeltasAfter(9L, PageRequest.of(0, 3))).thenReturn(List.of());
+
+        var actual = testObj.getChanges(9L, 2);
+
+        assertThat(actual.changes()).isEmpty();
+        assertThat(actual.hasMore()).isFalse();
+        assertThat(actual.lastSequence()).isEqualTo(9L);
+    }
+
+    @Test
+    void exportGames_consumesEveryGame() {
+        GameView first = new GameView(1L, "a", null, true, 0);
+        GameView second = new GameView(2L, "b", null, true, 0);
+        List<GameView> consumed = new ArrayList<>();
+
+        when(transactionTemplate.getTransactionManager()).thenReturn(mock(PlatformTransactionManager.class));
+        when(gameRepository.streamAllViews()).thenReturn(Stream.of(first, second));
+
+        testObj.exportGames(consumed::add);
+
+        assertThat(consumed).containsExactly(first, second);
+    }
+
+    @Test
+    void getGameView_snapshotEnabled_readsTheSnapshot() {
+        GameView gameView = new GameView(1L, GAME_NAME, null, true, 0);
+
+        when(catalogSnapshot.isEnabled()).thenReturn(true);
+        when(catalogSnapshot.current()).thenReturn(GameSnapshot.of(List.of(gameView)));
+
+        assertThat(testObj.getGameView(GAME_NAME)).isEqualTo(gameView);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void getGameView_snapshotEnabledAndGameMissing_fails() {
+        when(catalogSnapshot.isEnabled()).thenReturn(true);
+        when(catalogSnapshot.current()).thenReturn(GameSnapshot.EMPTY);
+
+        assertThatThrownBy(() -> testObj.getGameView(GAME_NAME))
+                .isInstanceOf(GameNotFoundException.class);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void getGames_snapshotEnabled_pagesTheSnapshot() {
+        GameView first = new GameView(1L, "a", null, true, 0);
+        GameView second = new GameView(2L, "b", null, true, 0);
+
+        when(catalogSnapshot.isEnabled()).thenReturn(true);
+        when(catalogSnapshot.current()).thenReturn(GameSnapshot.of(List.of(second, first)));
+
+        GamePage<GameView> actual = testObj.getGames(1, null, GameFilter.NONE);
+
+        assertThat(actual.games()).containsExactly(first);
+        assertThat(actual.nextCursor()).contains(new GameCursor("a", 1L));
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void getGames_snapshotEnabledWithPrefix_searchesTheSnapshot() {
+        GameView first = new GameView(1L, "abc", null, true, 0);
+        GameView second = new GameView(2L, "b", null, true, 0);
+
+        when(catalogSnapshot.isEnabled()).thenReturn(true);
+        when(catalogSnapshot.current()).thenReturn(GameSnapshot.of(List.of(second, first)));
+
+        GamePage<GameView> actual = testObj.getGames(10, null, prefixFilter("ab"));
+
+        assertThat(actual.games()).containsExactly(first);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void exportGames_snapshotEnabled_consumesTheSnapshotInOrder() {
+        GameView first = new GameView(1L, "a", null, true, 0);
+        GameView second = new GameView(2L, "b", null, true, 0);
+        List<GameView> consumed = new ArrayList<>();
+
+        when(catalogSnapshot.isEnabled()).thenReturn(true);
+        when(catalogSnapshot.current()).thenReturn(GameSnapshot.of(List.of(second, first)));
+
+        testObj.exportGames(consumed::add);
+
+        assertThat(consumed).containsExactly(first, second);
+        verifyNoInteractions(gameRepository, transactionTemplate);
+    }
+
     @Test
     void updateGame_success() {
         GameRequest gameRequest = mock(GameRequest.class);
         GameModel gameModel = mock(GameModel.class);
 
+        runNewTransactionsInline();
         when(gameRequest.name()).thenReturn(GAME_NAME);
         when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.of(gameModel));
         when(gameRepository.saveAndFlush(gameModel)).thenReturn(gameModel);
+        when(gameModel.getName()).thenReturn(GAME_NAME);
 
         GameModel actual = testObj.updateGame(gameRequest);
 
         assertThat(actual).isEqualTo(gameModel);
+        verify(changeLog).append(GameChangeType.UPDATED, List.of(GAME_NAME));
     }
 
     @Test
@@ -149,6 +500,7 @@ class GameModelServiceUTest {
         GameModel gameModel = mock(GameModel.class);
         RuntimeException exception = new RuntimeException("Exception");
 
+        runNewTransactionsInline();
         when(gameRequest.name()).thenReturn(GAME_NAME);
         when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.of(gameModel));
         doThrow(exception).when(gameRepository).saveAndFlush(gameModel);
@@ -162,6 +514,7 @@ class GameModelServiceUTest {
         GameRequest gameRequest = mock(GameRequest.class);
         GameNotFoundException exception = new GameNotFoundException(GAME_NAME);
 
+        runNewTransactionsInline();
         when(gameRequest.name()).thenReturn(GAME_NAME);
         when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.empty());
 
@@ -173,11 +526,13 @@ class GameModelServiceUTest {
     void deleteGame_success() {
         GameModel gameModel = mock(GameModel.class);
 
+        runNewTransactionsInline();
         when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.of(gameModel));
 
         testObj.deleteGame(GAME_NAME);
 
         verify(gameRepository).deleteById(anyLong());
+        verify(eventPublisher).publishEvent(new GameChangedEvent(GameChangeType.DELETED, GAME_NAME));
     }
 
     @Test
@@ -185,6 +540,7 @@ class GameModelServiceUTest {
         GameModel gameModel = mock(GameModel.class);
         RuntimeException exception = new RuntimeException("Exception");
 
+        runNewTransactionsInline();
         when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.of(gameModel));
         doThrow(exception).when(gameRepository).deleteById(anyLong());
 
@@ -198,10 +554,25 @@ class GameModelServiceUTest {
     void deleteGame_gameNotFound_fails() {
         GameNotFoundException exception = new GameNotFoundException(GAME_NAME);
 
+        runNewTransactionsInline();
         when(gameRepository.findByName(GAME_NAME)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() ->  testObj.deleteGame(GAME_NAME))
                 .hasMessageContaining(exception.getMessage());
     }
 
+
+    private void runNewTransactionsInline() {
+        when(transactionTemplate.getTransactionManager()).thenReturn(mock(PlatformTransactionManager.class));
+    }
+
+    private void runBatchTransactionsInline() {
+        runTransactionsInline();
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 }
@@ -0,0 +1,70 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class GameServiceCacheITest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getGame_repeatedLookups_areServedFromCache() {
+        var gameName = UUID.randomUUID().toString();
+        gameService.saveGame(new GameRequest(gameName, Instant.now(), true));
+
+        gameService.getGame(gameName);
+        assertThat(statistics.getQueryCachePutCount()).isPositive();
+        var queriesExecuted = statistics.getQueryExecutionCount();
+
+        gameService.getGame(gameName);
+
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(queriesExecuted);
+    }
+
+    @Test
+    void getGame_afterUpdateAndDelete_staysConsistent() {
+        var gameName = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        gameService.saveGame(new GameRequest(gameName, dateOfCreation, true));
+        gameService.getGame(gameName);
+
+        gameService.updateGame(new GameRequest(gameName, dateOfCreation.plus(1, ChronoUnit.DAYS), false));
+
+        var actual = gameService.getGame(gameName);
+        assertThat(actual.getActive()).isFalse();
+        assertThat(actual.getDateOfCreation()).isEqualTo(dateOfCreation.plus(1, ChronoUnit.DAYS));
+
+        gameService.deleteGame(gameName);
+
+        assertThatThrownBy(() -> gameService.getGame(gameName))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+}
@@ -0,0 +1,306 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.BatchItemResult;
+import exercise.gameproviderservice.domain.BatchItemStatus;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameDelta;
+import exercise.gameproviderservice.domain.GameDeltaPage;
+import exercise.gameproviderservice.domain.GameFilter;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.GameView;
+import exercise.gameproviderservice.domain.NamePrefix;
+import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.rest.payloads.BulkUpdateRequest;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static exercise.gameproviderservice.fixtures.GameFixtures.prefixFilter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class GameServiceITest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void getGames_withPrefix_returnsMatchingNamesInOrder() {
+        var prefix = UUID.randomUUID().toString();
+        List.of("b", "a", "c").forEach(suffix -> gameService.saveGame(new GameRequest(prefix + suffix, Instant.now(), true)));
+        gameService.saveGame(new GameRequest(UUID.randomUUID().toString(), Instant.now(), true));
+
+        var first = gameService.getGames(2, null, prefixFilter(prefix));
+        var second = gameService.getGames(2, first.next(), prefixFilter(prefix));
+
+        assertThat(first.games()).extracting(GameView::name).containsExactly(prefix + "a", prefix + "b");
+        assertThat(second.games()).extracting(GameView::name).containsExactly(prefix + "c");
+        assertThat(second.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void getGames_withActiveAndCreationWindow_returnsOnlyMatchingGames() {
+        var prefix = UUID.randomUUID().toString();
+        var from = Instant.parse("2030-01-01T00:00:00Z");
+        gameService.saveGame(new GameRequest(prefix + "a", from, true));
+        gameService.saveGame(new GameRequest(prefix + "b", from.plus(1, ChronoUnit.DAYS), true));
+        gameService.saveGame(new GameRequest(prefix + "c", from.plus(2, ChronoUnit.DAYS), false));
+        gameService.saveGame(new GameRequest(prefix + "d", from.plus(3, ChronoUnit.DAYS), true));
+        var filter = new GameFilter(new NamePrefix(prefix), true, from, from.plus(3, ChronoUnit.DAYS));
+
+        var first = gameService.getGames(1, null, filter);
+        var second = gameService.getGames(1, first.next(), filter);
+
+        assertThat(first.games()).extracting(GameView::name).containsExactly(prefix + "a");
+        assertThat(second.games()).extracting(GameView::name).containsExactly(prefix + "b");
+        assertThat(second.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void getGames_withActiveFilterOnly_pagesByCreationDate() {
+        var prefix = UUID.randomUUID().toString();
+        var from = Instant.parse("2040-01-01T00:00:00Z");
+        gameService.saveGame(new GameRequest(prefix + "c", from, true));
+        gameService.saveGame(new GameRequest(prefix + "a", from.plus(1, ChronoUnit.DAYS), true));
+        gameService.saveGame(new GameRequest(prefix + "b", from.plus(1, ChronoUnit.DAYS), false));
+        gameService.saveGame(new GameRequest(prefix + "d", from.plus(2, ChronoUnit.DAYS), true));
+        var filter = new GameFilter(null, true, from, from.plus(3, ChronoUnit.DAYS));
+
+        var first = gameService.getGames(2, null, filter);
+        var second = gameService.getGames(2, first.next(), filter);
+
+        assertThat(first.games()).extracting(GameView::name).containsExactly(prefix + "c", prefix + "a");
+        assertThat(first.next().isByCreation()).isTrue();
+        assertThat(second.games()).extracting(GameView::name).containsExactly(prefix + "d");
+        assertThat(second.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void schema_hasTheCompositeActiveDateIndex() {
+        var columns = jdbcTemplate.queryForList("""
+                select column_name from information_schema.index_columns
+                where index_name = ? order by ordinal_position
+                """, String.class, GameModel.ACTIVE_DATE_INDEX.toUpperCase());
+
+        assertThat(columns).containsExactly("ACTIVE", "DATE_OF_CREATION", "ID");
+    }
+
+    @Test
+    void schema_hasTheDateIndex() {
+        var columns = jdbcTemplate.queryForList("""
+                select column_name from information_schema.index_columns
+                where index_name = ? order by ordinal_position
+                """, String.class, GameModel.DATE_INDEX.toUpperCase());
+
+        assertThat(columns).containsExactly("DATE_OF_CREATION", "ID");
+    }
+
+    @Test
+    void creationOrderedPage_withOrWithoutActive_scansAnIndexOnTheDate() {
+        var byDate = explainCreationPage("date_of_creation >= ?", Instant.EPOCH);
+        var byActiveAndDate = explainCreationPage("active = ? and date_of_creation >= ?", true, Instant.EPOCH);
+
+        assertThat(byDate).containsIgnoringCase(GameModel.DATE_INDEX).containsIgnoringCase("index sorted");
+        assertThat(byActiveAndDate).containsIgnoringCase(GameModel.ACTIVE_DATE_INDEX);
+    }
+
+    @Test
+    void saveGame_duplicateName_failsWithGameAlreadyExists() {
+        var gameRequest = new GameRequest(UUID.randomUUID().toString(), Instant.now(), true);
+        gameService.saveGame(gameRequest);
+
+        assertThatThrownBy(() -> gameService.saveGame(gameRequest))
+                .isInstanceOf(GameAlreadyExistsException.class);
+    }
+
+    @Test
+    void saveGame_andUpdateGame_changeTheCatalogVersionAfterCommit() {
+        var gameRequest = new GameRequest(UUID.randomUUID().toString(), Instant.now(), true);
+        var initial = catalogVersion.current();
+
+        gameService.saveGame(gameRequest);
+        var created = catalogVersion.current();
+        gameService.updateGame(new GameRequest(gameRequest.name(), Instant.now(), false));
+
+        assertThat(created).isNotEqualTo(initial);
+        assertThat(catalogVersion.current()).isNotEqualTo(created);
+    }
+
+    @Test
+    void saveGame_concurrentDuplicates_insertsOnlyOnce() throws InterruptedException {
+        var gameRequest = new GameRequest(UUID.randomUUID().toString(), Instant.now(), true);
+        var attempts = 8;
+        var executor = Executors.newFixedThreadPool(attempts);
+
+        List<Callable<Object>> inserts = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            inserts.add(() -> gameService.saveGame(gameRequest));
+        }
+
+        var failures = 0;
+        for (Future<Object> result : executor.invokeAll(inserts)) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(GameAlreadyExistsException.class);
+                failures++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(failures).isEqualTo(attempts - 1);
+        assertThat(gameRepository.findByName(gameRequest.name())).isPresent();
+    }
+
+    @Test
+    void getChanges_sinceLastSync_returnsLatestUpsertsAndTombstonesInOrder() {
+        var since = syncedSequence();
+        var kept = UUID.randomUUID().toString();
+        var removed = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        gameService.saveGame(new GameRequest(kept, dateOfCreation, true));
+        gameService.saveGame(new GameRequest(removed, dateOfCreation, true));
+        gameService.updateGame(new GameRequest(kept, dateOfCreation, false));
+        gameService.deleteGame(removed);
+
+        var actual = gameService.getChanges(since, 10);
+
+        assertThat(actual.changes())
+                .extracting(GameDelta::type, GameDelta::name, GameDelta::dateOfCreation, GameDelta::active)
+                .containsExactly(
+                        tuple(GameChangeType.UPDATED, kept, dateOfCreation, false),
+                        tuple(GameChangeType.DELETED, removed, null, null));
+        assertThat(actual.changes().get(0).sequence()).isLessThan(actual.changes().get(1).sequence());
+        assertThat(actual.hasMore()).isFalse();
+
+        var inSync = gameService.getChanges(actual.lastSequence(), 10);
+        assertThat(inSync.changes()).isEmpty();
+        assertThat(inSync.lastSequence()).isEqualTo(actual.lastSequence());
+    }
+
+    @Test
+    void getChanges_concurrentWrites_neverSkipAnyChange() throws Exception {
+        var since = syncedSequence();
+        var gameNames = IntStream.range(0, 16).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        var executor = Executors.newFixedThreadPool(4);
+        var seen = new ArrayList<String>();
+        try {
+            var writes = gameNames.stream()
+                    .map(gameName -> executor.submit(() ->
+                            gameService.saveGame(new GameRequest(gameName, Instant.now(), true))))
+                    .toList();
+            var cursor = since;
+            boolean writesDone;
+            GameDeltaPage page;
+            do {
+                // sampled before reading, so the last read happens after every write committed
+                writesDone = writes.stream().allMatch(Future::isDone);
+                page = gameService.getChanges(cursor, 1000);
+                page.changes().stream().map(GameDelta::name).filter(gameNames::contains).forEach(seen::add);
+                cursor = page.lastSequence();
+            } while (!writesDone || page.hasMore());
+            for (var write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(gameNames);
+    }
+
+    @Test
+    void saveGames_newGames_areInsertedInJdbcBatches() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var gameRequests = IntStream.range(0, 120)
+                .mapToObj(i -> new GameRequest(UUID.randomUUID().toString(), Instant.now(), true))
+                .toList();
+        var existing = gameRequests.get(0);
+        gameService.saveGame(existing);
+        statistics.clear();
+
+        var actual = gameService.saveGames(gameRequests);
+
+        assertThat(actual).hasSize(gameRequests.size());
+        assertThat(actual.get(0).status()).isEqualTo(BatchItemStatus.ALREADY_EXISTS);
+        assertThat(actual.subList(1, actual.size())).allMatch(result -> result.status() == BatchItemStatus.CREATED);
+        assertThat(statistics.getEntityStatistics(GameModel.class.getName()).getInsertCount())
+                .isEqualTo(gameRequests.size() - 1);
+        // one lookup, a few sequence calls, four change log statements and one prepared insert per JDBC batch
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    }
+
+    @Test
+    void updateGames_andDeleteGames_mutateOnlyExistingGames() {
+        var gameName = UUID.randomUUID().toString();
+        var missingName = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        gameService.saveGame(new GameRequest(gameName, dateOfCreation, true));
+        gameService.getGame(gameName);
+
+        var updated = gameService.updateGames(new BulkUpdateRequest(List.of(gameName, missingName), null, false));
+
+        assertThat(updated).extracting(BatchItemResult::status)
+                .containsExactly(BatchItemStatus.UPDATED, BatchItemStatus.NOT_FOUND);
+        var actual = gameService.getGame(gameName);
+        assertThat(actual.getActive()).isFalse();
+        assertThat(actual.getDateOfCreation()).isEqualTo(dateOfCreation);
+        assertThat(actual.getVersion()).isEqualTo(1);
+
+        var deleted = gameService.deleteGames(List.of(gameName, missingName));
+
+        assertThat(deleted).extracting(BatchItemResult::status)
+                .containsExactly(BatchItemStatus.DELETED, BatchItemStatus.NOT_FOUND);
+        assertThatThrownBy(() -> gameService.getGame(gameName))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+
+    private long syncedSequence() {
+        var since = 0L;
+        GameDeltaPage page;
+        do {
+            page = gameService.getChanges(since, 1000);
+            since = page.lastSequence();
+        } while (page.hasMore());
+        return since;
+    }
+
+    private String explainCreationPage(String where, Object... args) {
+        return jdbcTemplate.queryForObject(
+                "explain select id, name from game_model where " + where
+                        + " order by date_of_creation nulls first, id fetch first 11 rows only",
+                String.class, args);
+    }
+}
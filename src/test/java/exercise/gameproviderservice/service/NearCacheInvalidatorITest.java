@@ -0,0 +1,166 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.GameProviderServiceApplication;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two nodes sharing one file-based H2 database, each with its own second-level cache. The tests poll the change log
+ * themselves, so staleness is asserted in polls rather than in wall-clock time.
+ */
+class NearCacheInvalidatorITest {
+
+    private static final long AWAIT_MILLIS = 10_000;
+
+    @TempDir
+    static Path databaseDirectory;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode(WebApplicationType.SERVLET);
+        nodeB = startNode(WebApplicationType.NONE);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void getGame_updatedOnAnotherNode_isServedFreshAfterOnePoll() {
+        var gameName = UUID.randomUUID().toString();
+        var dateOfCreation = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        gameService(nodeA).saveGame(new GameRequest(gameName, dateOfCreation, false));
+        var cached = gameService(nodeA).getGame(gameName);
+        assertThat(isCached(nodeA, cached)).isTrue();
+
+        gameService(nodeB).updateGame(new GameRequest(gameName, dateOfCreation, true));
+        invalidator(nodeA).poll();
+
+        assertThat(gameService(nodeA).getGame(gameName).getActive()).isTrue();
+        assertThat(invalidations(nodeA)).isPositive();
+    }
+
+    @Test
+    void getGame_deletedOnAnotherNode_isNotFoundAfterOnePoll() {
+        var gameName = UUID.randomUUID().toString();
+        gameService(nodeB).saveGame(new GameRequest(gameName, Instant.now(), true));
+        gameService(nodeA).getGame(gameName);
+
+        gameService(nodeB).deleteGame(gameName);
+        invalidator(nodeA).poll();
+
+        assertThatThrownBy(() -> gameService(nodeA).getGame(gameName)).isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void streamChanges_remoteWrite_isPushedOnceDespiteTheRepeatedEviction() throws InterruptedException {
+        var lines = subscribe(nodeA);
+        var gameName = UUID.randomUUID().toString();
+
+        gameService(nodeB).saveGame(new GameRequest(gameName, Instant.now(), true));
+        invalidator(nodeA).poll();
+        invalidator(nodeA).poll();
+        var marker = UUID.randomUUID().toString();
+        gameService(nodeA).saveGame(new GameRequest(marker, Instant.now(), true));
+
+        assertThat(awaitLinesUntil(lines, marker))
+                .filteredOn(line -> line.contains("\"" + gameName + "\""))
+                .containsExactly("data:{\"type\":\"CREATED\",\"name\":\"" + gameName + "\"}");
+    }
+
+    /**
+     * Scheduled polling is pushed out of the tests' way; they call {@link NearCacheInvalidator#poll()} instead.
+     */
+    private static ConfigurableApplicationContext startNode(WebApplicationType webApplicationType) {
+        return new SpringApplicationBuilder(GameProviderServiceApplication.class)
+                .web(webApplicationType)
+                .run("--spring.datasource.url=jdbc:h2:file:" + databaseDirectory.resolve("games"),
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--server.port=0",
+                        "--game-provider.near-cache.enabled=true",
+                        "--game-provider.near-cache.poll-interval=1h");
+    }
+
+    private static GameService gameService(ConfigurableApplicationContext node) {
+        return node.getBean(GameService.class);
+    }
+
+    private static NearCacheInvalidator invalidator(ConfigurableApplicationContext node) {
+        return node.getBean(NearCacheInvalidator.class);
+    }
+
+    private static boolean isCached(ConfigurableApplicationContext node, GameModel gameModel) {
+        return node.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache()
+                .containsEntity(GameModel.class, gameModel.getId());
+    }
+
+    private static double invalidations(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get(NearCacheInvalidator.INVALIDATIONS_METRIC).counter().count();
+    }
+
+    /**
+     * Opens the node's change stream and waits until the node counts it as a subscriber.
+     */
+    private static BlockingQueue<String> subscribe(ConfigurableApplicationContext node) throws InterruptedException {
+        var lines = new LinkedBlockingQueue<String>();
+        var port = node.getEnvironment().getProperty("local.server.port");
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/games/stream")).build();
+        HttpClient.newHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> response.body().forEach(lines::add));
+
+        var subscribers = node.getBean(MeterRegistry.class).get("game.feed.subscribers").gauge();
+        var deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (subscribers.value() < 1) {
+            assertThat(System.currentTimeMillis()).as("subscribed in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        return lines;
+    }
+
+    /**
+     * Events reach a subscriber in order, so once the {@code marker} arrived every earlier event has too.
+     */
+    private static List<String> awaitLinesUntil(BlockingQueue<String> lines, String marker) throws InterruptedException {
+        var received = new ArrayList<String>();
+        var deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (received.stream().noneMatch(line -> line.contains(marker))) {
+            var line = lines.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+            assertThat(line).as("%s pushed in time", marker).isNotNull();
+            received.add(line);
+        }
+        return received;
+    }
+}
@@ -0,0 +1,163 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.NearCacheProperties;
+import exercise.gameproviderservice.domain.GameChange;
+import exercise.gameproviderservice.domain.GameChangeType;
+import exercise.gameproviderservice.domain.GameChangedEvent;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.repository.GameChangeRepository;
+import exercise.gameproviderservice.repository.GameRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheInvalidatorUTest {
+
+    private static final String LOCAL = "local";
+    private static final String REMOTE = "remote";
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private GameChangeRepository changeRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameChangeLog changeLog;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NearCacheInvalidator testObj;
+
+    @BeforeEach
+    void setUp() {
+        testObj = new NearCacheInvalidator(new NearCacheProperties(true, Duration.ofSeconds(1), BATCH_SIZE),
+                changeRepository, gameRepository, changeLog, catalogSnapshot, entityManagerFactory, eventPublisher,
+                scheduler, meterRegistry);
+    }
+
+    @Test
+    void poll_remoteChanges_areEvictedAndRepublished() {
+        stubSecondLevelCache();
+        when(changeLog.node()).thenReturn(LOCAL);
+        when(changeRepository.findChangesAfter(0, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of(
+                new GameChange(1L, GameChangeType.UPDATED, "updated", REMOTE),
+                new GameChange(2L, GameChangeType.DELETED, "deleted", REMOTE)));
+        when(changeRepository.findChangesAfter(2, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of());
+        when(gameRepository.findIdsByNameIn(List.of("updated", "deleted"))).thenReturn(Set.of(7L));
+
+        testObj.poll();
+
+        verify(cache).evictEntityData(GameModel.class, 7L);
+        verify(cache).evictQueryRegion(GameModel.BY_NAME_CACHE_REGION);
+        verify(eventPublisher).publishEvent(new GameChangedEvent(GameChangeType.UPDATED, "updated"));
+        verify(eventPublisher).publishEvent(new GameChangedEvent(GameChangeType.DELETED, "deleted"));
+        assertThat(meterRegistry.get(NearCacheInvalidator.INVALIDATIONS_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void poll_ownChanges_areSkippedButStillAdvanceTheCursor() {
+        stubSecondLevelCache();
+        when(changeLog.node()).thenReturn(LOCAL);
+        when(changeRepository.findChangesAfter(0, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of(
+                new GameChange(1L, GameChangeType.CREATED, "mine", LOCAL)));
+
+        testObj.poll();
+        testObj.poll();
+
+        verify(changeRepository).findChangesAfter(1, PageRequest.of(0, BATCH_SIZE));
+        verifyNoInteractions(gameRepository, cache, eventPublisher);
+    }
+
+    @Test
+    void poll_afterRemoteChanges_evictsAndRepublishesThemOnceMore() {
+        stubSecondLevelCache();
+        when(changeLog.node()).thenReturn(LOCAL);
+        when(changeRepository.findChangesAfter(0, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of(
+                new GameChange(1L, GameChangeType.UPDATED, "updated", REMOTE)));
+        when(gameRepository.findIdsByNameIn(List.of("updated"))).thenReturn(Set.of(7L));
+
+        testObj.poll();
+        testObj.poll();
+        testObj.poll();
+
+        verify(cache, times(2)).evictEntityData(GameModel.class, 7L);
+        verify(cache, times(2)).evictQueryRegion(GameModel.BY_NAME_CACHE_REGION);
+        var change = new GameChangedEvent(GameChangeType.UPDATED, "updated");
+        verify(eventPublisher).publishEvent(change);
+        verify(eventPublisher).publishEvent(change.asRefresh());
+        assertThat(meterRegistry.get(NearCacheInvalidator.INVALIDATIONS_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void start_withSnapshot_tailsFromWhereItWasLoaded() {
+        stubSecondLevelCache();
+        when(catalogSnapshot.isEnabled()).thenReturn(true);
+        when(catalogSnapshot.loadedAtSequence()).thenReturn(5L);
+        when(changeRepository.findChangesAfter(5, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of());
+
+        testObj.start();
+        testObj.poll();
+
+        verify(changeLog, never()).lastSequence();
+        verify(changeRepository).findChangesAfter(5, PageRequest.of(0, BATCH_SIZE));
+    }
+
+    @Test
+    void start_disabled_neverSchedulesPolling() {
+        testObj = new NearCacheInvalidator(new NearCacheProperties(false, Duration.ofSeconds(1), BATCH_SIZE),
+                changeRepository, gameRepository, changeLog, catalogSnapshot, entityManagerFactory, eventPublisher,
+                scheduler, meterRegistry);
+
+        testObj.start();
+
+        verify(scheduler, never()).scheduleWithFixedDelay(any(), any(Long.class), any(Long.class), any());
+        verifyNoInteractions(changeRepository);
+    }
+
+    private void stubSecondLevelCache() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+    }
+}
@@ -0,0 +1,164 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.UpdateCoalescingProperties;
+import exercise.gameproviderservice.domain.GameModel;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateCoalescerUTest {
+
+    private static final String GAME_NAME = "gameName";
+
+    @Mock
+    private GameService gameService;
+
+    @Mock
+    private ConflictRetrier conflictRetrier;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CompletableFuture<GameModel> inFlight = new CompletableFuture<>();
+
+    private UpdateCoalescer testObj;
+
+    @BeforeEach
+    void setUp() {
+        testObj = new UpdateCoalescer(new UpdateCoalescingProperties(true), gameService, conflictRetrier, executor,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void update_alone_isAppliedRightAway() {
+        var request = request(true);
+        var game = new GameModel(1L, GAME_NAME, null, true, 1);
+
+        runThroughRetrier();
+        when(gameService.updateGame(request)).thenReturn(game);
+
+        assertThat(testObj.update(request)).isCompletedWithValue(game);
+    }
+
+    @Test
+    void update_whileAnotherIsInFlight_areMergedLastWriterWins() {
+        var first = request(true);
+        var second = request(false);
+        var third = request(true);
+        var merged = new GameModel(1L, GAME_NAME, null, true, 2);
+
+        when(conflictRetrier.<GameModel>execute(eq("update"), any())).thenReturn(inFlight).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<GameModel>>getArgument(1).get()));
+        when(gameService.updateGame(third)).thenReturn(merged);
+
+        var firstResult = testObj.update(first);
+        var secondResult = testObj.update(second);
+        var thirdResult = testObj.update(third);
+        inFlight.complete(new GameModel(1L, GAME_NAME, null, true, 1));
+
+        assertThat(secondResult.join()).isSameAs(merged);
+        assertThat(thirdResult.join()).isSameAs(merged);
+        assertThat(firstResult.join().getVersion()).isEqualTo(1);
+        verify(gameService, never()).updateGame(second);
+        assertThat(meterRegistry.get(UpdateCoalescer.COALESCED_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void update_failedWrite_failsEveryCallerOfThatBatchOnly() {
+        var exception = new GameNotFoundException(GAME_NAME);
+
+        when(conflictRetrier.<GameModel>execute(eq("update"), any())).thenReturn(inFlight, CompletableFuture.failedFuture(exception));
+
+        var firstResult = testObj.update(request(true));
+        var secondResult = testObj.update(request(false));
+        var thirdResult = testObj.update(request(true));
+        inFlight.complete(new GameModel(1L, GAME_NAME, null, true, 1));
+
+        assertThat(firstResult.join().getVersion()).isEqualTo(1);
+        assertThatThrownBy(secondResult::join).hasCause(exception);
+        assertThatThrownBy(thirdResult::join).hasCause(exception);
+    }
+
+    @Test
+    void update_retrierThrows_failsTheBatchAndReleasesTheGame() {
+        var exception = new IllegalStateException("Error");
+        var game = new GameModel(1L, GAME_NAME, null, true, 1);
+
+        when(conflictRetrier.<GameModel>execute(eq("update"), any())).thenThrow(exception).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<GameModel>>getArgument(1).get()));
+        when(gameService.updateGame(any())).thenReturn(game);
+
+        var failed = testObj.update(request(true));
+        var next = testObj.update(request(false));
+
+        assertThatThrownBy(failed::join).hasCause(exception);
+        assertThat(next.join()).isSameAs(game);
+    }
+
+    @Test
+    void update_continuationRejected_failsTheBufferedCallersAndReleasesTheGame() {
+        var game = new GameModel(1L, GAME_NAME, null, true, 1);
+
+        when(conflictRetrier.<GameModel>execute(eq("update"), any())).thenReturn(inFlight).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<GameModel>>getArgument(1).get()));
+        when(gameService.updateGame(any())).thenReturn(game);
+
+        var firstResult = testObj.update(request(true));
+        var buffered = testObj.update(request(false));
+        executor.shutdown();
+        inFlight.complete(game);
+
+        assertThat(firstResult).isCompletedWithValue(game);
+        assertThatThrownBy(buffered::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(testObj.update(request(true))).isCompletedWithValue(game);
+    }
+
+    @Test
+    void update_afterBatchCompleted_startsANewOne() {
+        var game = new GameModel(1L, GAME_NAME, null, true, 1);
+
+        runThroughRetrier();
+        when(gameService.updateGame(any())).thenReturn(game);
+
+        testObj.update(request(true)).join();
+        testObj.update(request(false)).join();
+
+        verify(conflictRetrier, timeout(1000).times(2)).execute(eq("update"), any());
+    }
+
+    private void runThroughRetrier() {
+        when(conflictRetrier.<GameModel>execute(eq("update"), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<GameModel>>getArgument(1).get()));
+    }
+
+    private static GameRequest request(boolean active) {
+        return new GameRequest(GAME_NAME, Instant.now(), active);
+    }
+}
@@ -0,0 +1,80 @@
+package exercise.gameproviderservice.config;
+
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.GameService;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "game-provider.virtual-threads.enabled=true")
+class VirtualThreadConfigITest {
+
+    @LocalServerPort
+    private int port;
+
+    @SpyBean
+    private GameService gameService;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private ThreadFactory conflictRetryThreadFactory;
+
+    @Autowired
+    private ThreadFactory nearCacheThreadFactory;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void request_runsItsTransactionOnAVirtualThread() {
+        var serviceThread = new AtomicReference<Thread>();
+        doAnswer(invocation -> {
+            serviceThread.set(Thread.currentThread());
+            return invocation.callRealMethod();
+        }).when(gameService).saveGame(any(GameRequest.class));
+
+        given().contentType(JSON)
+                .body("""
+                        {"name": "%s", "dateOfCreation": "%s", "active": true}""".formatted(UUID.randomUUID(), Instant.now()))
+                .post("/v1/games")
+                .then()
+                .statusCode(200);
+
+        assertThat(serviceThread.get().isVirtual()).isTrue();
+    }
+
+    @Test
+    void applicationTaskExecutor_runsOnVirtualThreads() throws Exception {
+        assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+    }
+
+    @Test
+    void schedulers_keepPlatformThreads() {
+        assertThat(conflictRetryThreadFactory.newThread(() -> { }).isVirtual()).isFalse();
+        assertThat(nearCacheThreadFactory.newThread(() -> { }).isVirtual()).isFalse();
+    }
+}
@@ -0,0 +1,18 @@
+package exercise.gameproviderservice.fixtures;
+
+import exercise.gameproviderservice.domain.GameRow;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReactiveGameFixtures {
+    private static final String GAME_NAME = "Game name";
+    private static final Instant DOC = Instant.now();
+    private static final boolean ACTIVE = false;
+
+    public static GameRow createGameRow() {
+        return new GameRow(1L, GAME_NAME, DOC, ACTIVE, 0);
+    }
+}
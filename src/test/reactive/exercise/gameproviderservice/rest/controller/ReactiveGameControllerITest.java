@@ -0,0 +1,155 @@
+package exercise.gameproviderservice.rest.controller;
+
+import exercise.gameproviderservice.domain.GameCursor;
+import exercise.gameproviderservice.domain.GamePage;
+import exercise.gameproviderservice.domain.GameRow;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.mapper.ReactiveGameMapper;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import exercise.gameproviderservice.service.ReactiveConflictRetrier;
+import exercise.gameproviderservice.service.ReactiveGameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameRequest;
+import static exercise.gameproviderservice.fixtures.GameFixtures.createGameResponse;
+import static exercise.gameproviderservice.fixtures.ReactiveGameFixtures.createGameRow;
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@Import(SimpleMeterRegistry.class)
+@WebFluxTest(controllers = ReactiveGameController.class)
+class ReactiveGameControllerITest {
+
+    private static final String GAMES_BASE_PATH = "/v1/games";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveGameService gameService;
+
+    @MockBean
+    private ReactiveGameMapper gameMapper;
+
+    @MockBean
+    private ReactiveConflictRetrier conflictRetrier;
+
+    @BeforeEach
+    void setUp() {
+        when(conflictRetrier.retry(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    void getAll_withCursor_thenReturnsNextCursorHeader() {
+        var gameRow = createGameRow();
+        var after = new GameCursor("A game", 1L);
+        var next = new GameCursor(gameRow.getName(), 2L);
+
+        when(gameService.getGames(1, after)).thenReturn(Mono.just(new GamePage<>(List.of(gameRow), next)));
+        when(gameMapper.gameRowToGameResponse(gameRow)).thenReturn(createGameResponse());
+
+        webTestClient.get()
+                .uri(GAMES_BASE_PATH + "?limit=1&after=" + after.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(GameController.NEXT_CURSOR_HEADER, next.encode())
+                .expectBody(String.class)
+                .value(body -> assertThatJson(body).isArray().hasSize(1));
+    }
+
+    @Test
+    void getAll_invalidCursor_thenReturns400() {
+        webTestClient.get()
+                .uri(GAMES_BASE_PATH + "?after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void getAll_limitOutOfRange_thenReturns422() {
+        webTestClient.get()
+                .uri(GAMES_BASE_PATH + "?limit=0")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    void getGame_unknownGame_thenReturns404() {
+        when(gameService.getGame("unknown")).thenReturn(Mono.error(new GameNotFoundException("unknown")));
+
+        webTestClient.get()
+                .uri(GAMES_BASE_PATH + "/unknown")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class)
+                .value(body -> assertThatJson(body).inPath("errors[0].errorMessage").isString().contains("unknown"));
+    }
+
+    @Test
+    void insertGame_blankName_thenReturns422() {
+        webTestClient.post()
+                .uri(GAMES_BASE_PATH)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(new GameRequest("", null, true))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody(String.class)
+                .value(body -> assertThatJson(body).inPath("errors[0].errorMessage").isString().startsWith("'name'"));
+    }
+
+    @Test
+    void updateGame_conflict_thenReturns409() {
+        var request = createGameRequest();
+        when(gameService.updateGame(request)).thenReturn(Mono.error(new OptimisticLockingFailureException("conflict")));
+
+        webTestClient.put()
+                .uri(GAMES_BASE_PATH)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void updateGame_thenReturnsTheUpdatedGame() {
+        var request = createGameRequest();
+        var gameRow = createGameRow();
+        when(gameService.updateGame(request)).thenReturn(Mono.just(gameRow));
+        when(gameMapper.gameRowToGameResponse(gameRow)).thenReturn(createGameResponse());
+
+        webTestClient.put()
+                .uri(GAMES_BASE_PATH)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertThatJson(body).isObject().containsEntry("name", request.name()));
+    }
+
+    @Test
+    void deleteGame_thenReturns204() {
+        when(gameService.deleteGame("Game name")).thenReturn(Mono.empty());
+
+        webTestClient.delete()
+                .uri(GAMES_BASE_PATH + "/Game name")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+}
@@ -0,0 +1,82 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.config.ConflictRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveConflictRetrierUTest {
+
+    private static final String OPERATION = "update";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReactiveConflictRetrier testObj = new ReactiveConflictRetrier(new ConflictRetrier(
+            new ConflictRetryProperties(3, Duration.ofMillis(10), Duration.ofMillis(40), 2, 1), scheduler, Runnable::run,
+            meterRegistry));
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void retry_conflictThenSuccess_resubscribes() {
+        var attempts = new AtomicInteger();
+        var action = Mono.fromCallable(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+
+        StepVerifier.create(testObj.retry(OPERATION, action))
+                .expectNext("done")
+                .verifyComplete();
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get(ConflictRetrier.RETRIES_METRIC).tag("operation", OPERATION).counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void retry_conflictOnEveryAttempt_givesUp() {
+        var conflict = new OptimisticLockingFailureException("conflict");
+        var attempts = new AtomicInteger();
+        var action = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(conflict);
+        });
+
+        StepVerifier.create(testObj.retry(OPERATION, action))
+                .expectErrorMatches(conflict::equals)
+                .verify();
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get(ConflictRetrier.GIVE_UPS_METRIC).tag("operation", OPERATION).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void retry_otherFailure_isNotRetried() {
+        var exception = new IllegalStateException("Error");
+        var attempts = new AtomicInteger();
+        var action = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(exception);
+        });
+
+        StepVerifier.create(testObj.retry(OPERATION, action))
+                .expectErrorMatches(exception::equals)
+                .verify();
+        assertThat(attempts).hasValue(1);
+    }
+}
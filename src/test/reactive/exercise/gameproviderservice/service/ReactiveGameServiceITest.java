@@ -0,0 +1,97 @@
+package exercise.gameproviderservice.service;
+
+import exercise.gameproviderservice.domain.GameRow;
+import exercise.gameproviderservice.domain.exception.GameAlreadyExistsException;
+import exercise.gameproviderservice.domain.exception.GameNotFoundException;
+import exercise.gameproviderservice.repository.GameRepository;
+import exercise.gameproviderservice.repository.ReactiveGameRepository;
+import exercise.gameproviderservice.rest.payloads.GameRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-service",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-service",
+        "spring.r2dbc.username=sa"})
+class ReactiveGameServiceITest {
+
+    @Autowired
+    private ReactiveGameService gameService;
+
+    @Autowired
+    private ReactiveGameRepository reactiveGameRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void saveGame_assignsIdFromTheSharedSequence_andIsVisibleToJpa() {
+        var gameRequest = newGameRequest();
+
+        var saved = gameService.saveGame(gameRequest).block();
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        assertThat(gameRepository.findByName(gameRequest.name()))
+                .hasValueSatisfying(gameModel -> assertThat(gameModel.getId()).isEqualTo(saved.getId()));
+    }
+
+    @Test
+    void saveGame_duplicateName_failsWithGameAlreadyExists() {
+        var gameRequest = newGameRequest();
+        gameService.saveGame(gameRequest).block();
+
+        StepVerifier.create(gameService.saveGame(gameRequest))
+                .expectError(GameAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    void updateGame_incrementsTheVersion() {
+        var gameRequest = newGameRequest();
+        gameService.saveGame(gameRequest).block();
+        var changed = new GameRequest(gameRequest.name(), gameRequest.dateOfCreation().plus(1, ChronoUnit.DAYS), false);
+
+        StepVerifier.create(gameService.updateGame(changed))
+                .assertNext(gameRow -> {
+                    assertThat(gameRow.getVersion()).isEqualTo(1);
+                    assertThat(gameRow.getActive()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void save_staleVersion_failsWithOptimisticLocking() {
+        var saved = gameService.saveGame(newGameRequest()).block();
+        gameService.updateGame(new GameRequest(saved.getName(), Instant.now(), false)).block();
+        var stale = new GameRow(saved.getId(), saved.getName(), saved.getDateOfCreation(), true, saved.getVersion());
+
+        StepVerifier.create(reactiveGameRepository.save(stale))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    void deleteGame_removesTheGame() {
+        var gameRequest = newGameRequest();
+        gameService.saveGame(gameRequest).block();
+
+        StepVerifier.create(gameService.deleteGame(gameRequest.name())).verifyComplete();
+        StepVerifier.create(gameService.getGame(gameRequest.name()))
+                .expectError(GameNotFoundException.class)
+                .verify();
+    }
+
+    private static GameRequest newGameRequest() {
+        return new GameRequest(UUID.randomUUID().toString(), Instant.now().truncatedTo(ChronoUnit.MILLIS), true);
+    }
+}